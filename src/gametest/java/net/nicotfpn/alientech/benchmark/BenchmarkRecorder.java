@@ -0,0 +1,129 @@
+package net.nicotfpn.alientech.benchmark;
+
+import net.minecraft.server.MinecraftServer;
+import net.neoforged.fml.loading.FMLPaths;
+import net.nicotfpn.alientech.AlienTech;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Per-tick time and allocation sampler for one benchmark scenario.
+ * <p>
+ * {@link #sample} is called once per server tick from the server thread. Each
+ * sample records the previous full server tick: its duration from the
+ * server's own tick-time ring buffer, and the bytes the server thread
+ * allocated since the previous sample.
+ * <p>
+ * Results go to {@code <gameDir>/benchmarks/}: one row per run appended to
+ * {@code mspt.csv}, and {@code <scenario>.json} with the latest run.
+ */
+final class BenchmarkRecorder {
+
+    private static final String CSV_HEADER = "timestamp,scenario,scale,ticks,mean_ms,p50_ms,p95_ms,p99_ms,max_ms,"
+            + "alloc_bytes_per_tick\n";
+
+    private final String scenario;
+    private final int scale;
+    private final long[] tickNanos;
+    private final long[] allocBytes;
+    private int count = 0;
+    private long lastAllocated = -1L;
+
+    BenchmarkRecorder(String scenario, int scale, int ticks) {
+        this.scenario = scenario;
+        this.scale = scale;
+        this.tickNanos = new long[ticks];
+        this.allocBytes = new long[ticks];
+    }
+
+    void sample(MinecraftServer server) {
+        long allocated = currentThreadAllocatedBytes();
+        if (lastAllocated != -1L && count < tickNanos.length) {
+            long[] times = server.getTickTimesNanos();
+            // The running tick already incremented tickCount; its predecessor is complete
+            tickNanos[count] = times[Math.floorMod(server.getTickCount() - 1, times.length)];
+            allocBytes[count] = allocated >= 0 ? allocated - lastAllocated : -1L;
+            count++;
+        }
+        lastAllocated = allocated >= 0 ? allocated : 0L;
+    }
+
+    boolean isComplete() {
+        return count >= tickNanos.length;
+    }
+
+    /**
+     * Write the CSV row and JSON file.
+     *
+     * @return one-line summary for the test log
+     */
+    String writeResults() {
+        long[] sorted = Arrays.copyOf(tickNanos, count);
+        Arrays.sort(sorted);
+        double mean = count > 0 ? Arrays.stream(sorted).average().orElse(0) / 1_000_000.0 : 0;
+        double p50 = percentile(sorted, 0.50);
+        double p95 = percentile(sorted, 0.95);
+        double p99 = percentile(sorted, 0.99);
+        double max = count > 0 ? sorted[count - 1] / 1_000_000.0 : 0;
+        long alloc = meanAllocation();
+        String timestamp = Instant.now().toString();
+
+        String row = String.format(Locale.ROOT, "%s,%s,%d,%d,%.4f,%.4f,%.4f,%.4f,%.4f,%d%n",
+                timestamp, scenario, scale, count, mean, p50, p95, p99, max, alloc);
+        String json = String.format(Locale.ROOT,
+                "{\n  \"timestamp\": \"%s\",\n  \"scenario\": \"%s\",\n  \"scale\": %d,\n  \"ticks\": %d,\n"
+                        + "  \"mean_ms\": %.4f,\n  \"p50_ms\": %.4f,\n  \"p95_ms\": %.4f,\n  \"p99_ms\": %.4f,\n"
+                        + "  \"max_ms\": %.4f,\n  \"alloc_bytes_per_tick\": %d\n}\n",
+                timestamp, scenario, scale, count, mean, p50, p95, p99, max, alloc);
+
+        try {
+            Path dir = FMLPaths.GAMEDIR.get().resolve("benchmarks");
+            Files.createDirectories(dir);
+            Path csv = dir.resolve("mspt.csv");
+            if (!Files.exists(csv)) {
+                Files.writeString(csv, CSV_HEADER, StandardCharsets.UTF_8);
+            }
+            Files.writeString(csv, row, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            Files.writeString(dir.resolve(scenario + ".json"), json, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            AlienTech.LOGGER.error("Failed to write benchmark results for {}", scenario, e);
+        }
+
+        return String.format(Locale.ROOT, "%s x%d: mean %.3f ms, p95 %.3f ms, %d B/tick",
+                scenario, scale, mean, p95, alloc);
+    }
+
+    private double percentile(long[] sorted, double p) {
+        if (sorted.length == 0)
+            return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private long meanAllocation() {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            if (allocBytes[i] < 0)
+                return -1L; // Not supported by this JVM
+            total += allocBytes[i];
+        }
+        return count > 0 ? total / count : 0;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            return sunBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1L;
+    }
+}
@@ -0,0 +1,213 @@
+package net.nicotfpn.alientech.benchmark;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.block.ModBlocks;
+import net.nicotfpn.alientech.block.entity.AncientBatteryBlockEntity;
+import net.nicotfpn.alientech.block.entity.PrimalCatalystBlockEntity;
+import net.nicotfpn.alientech.item.ModItems;
+import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
+import net.nicotfpn.alientech.machine.core.component.AlienEnergyStorage;
+import net.nicotfpn.alientech.machine.turbine.QuantumVacuumTurbineBlockEntity;
+import net.nicotfpn.alientech.registration.AlienBlocks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MSPT regression benchmarks, run headless by the {@code gameTestServer} run
+ * ({@code ./gradlew runGameTestServer}).
+ * <p>
+ * Each scenario builds a synthetic layout inside an empty 48×16×48 arena,
+ * lets it settle for {@value #WARMUP_TICKS} ticks, then samples
+ * {@value #MEASURE_TICKS} server ticks with {@link BenchmarkRecorder}. Every
+ * scenario has its own batch so scenarios never share a tick.
+ * <p>
+ * These tests always pass — they measure, they do not assert. Compare
+ * {@code benchmarks/mspt.csv} between runs to spot regressions.
+ */
+@GameTestHolder(AlienTech.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class MsptBenchmarks {
+
+    private static final String ARENA = "benchmark_arena";
+    private static final int WARMUP_TICKS = 100;
+    private static final int MEASURE_TICKS = 400;
+    private static final int TIMEOUT = WARMUP_TICKS + MEASURE_TICKS + 40;
+
+    // ==================== Scenarios ====================
+
+    /**
+     * 32×8×8 block of basic energy cables (2048) between a creative battery
+     * and an ancient battery.
+     */
+    @GameTest(template = ARENA, batch = "alientech_bench_energy_cables", timeoutTicks = TIMEOUT)
+    public static void energyCables(GameTestHelper helper) {
+        int cables = fillCuboid(helper, ModBlocks.CABLE_BASIC.get(), 2, 1, 2, 32, 8, 8);
+        helper.setBlock(new BlockPos(1, 1, 2), AlienBlocks.CREATIVE_ANCIENT_BATTERY.get());
+        helper.setBlock(new BlockPos(34, 1, 2), AlienBlocks.ANCIENT_BATTERY.get());
+        measure(helper, "energy_cables", cables);
+    }
+
+    /**
+     * 32×8×8 block of entropy cables (2048) between two entropy reservoirs.
+     */
+    @GameTest(template = ARENA, batch = "alientech_bench_entropy_cables", timeoutTicks = TIMEOUT)
+    public static void entropyCables(GameTestHelper helper) {
+        int cables = fillCuboid(helper, ModBlocks.ENTROPY_CABLE.get(), 2, 1, 2, 32, 8, 8);
+        helper.setBlock(new BlockPos(1, 1, 2), ModBlocks.ENTROPY_RESERVOIR.get());
+        helper.setBlock(new BlockPos(34, 1, 2), ModBlocks.ENTROPY_RESERVOIR.get());
+        measure(helper, "entropy_cables", cables);
+    }
+
+    /**
+     * Four Tier 1 pyramids in the corners and a fuelled 20×20 turbine field
+     * between them (every turbine inside every core's boost range).
+     */
+    @GameTest(template = ARENA, batch = "alientech_bench_pyramid_field", timeoutTicks = TIMEOUT)
+    public static void pyramidField(GameTestHelper helper) {
+        buildTier1Pyramid(helper, new BlockPos(4, 1, 4));
+        buildTier1Pyramid(helper, new BlockPos(43, 1, 4));
+        buildTier1Pyramid(helper, new BlockPos(4, 1, 43));
+        buildTier1Pyramid(helper, new BlockPos(43, 1, 43));
+
+        int turbines = 0;
+        for (int x = 14; x < 34; x++) {
+            for (int z = 14; z < 34; z++) {
+                BlockPos pos = new BlockPos(x, 1, z);
+                helper.setBlock(pos, ModBlocks.QUANTUM_VACUUM_TURBINE.get());
+                if (helper.getBlockEntity(pos) instanceof QuantumVacuumTurbineBlockEntity turbine) {
+                    turbine.getFuelInventory().insertItem(0, new ItemStack(ModItems.DECAYING_GRAVITON.get(), 16),
+                            false);
+                }
+                turbines++;
+            }
+        }
+        measure(helper, "pyramid_field", turbines);
+    }
+
+    /**
+     * Two 16×16 layers alternating Primal Catalysts and Ancient Batteries
+     * (512 machines), all of them working: a Tier 1 pyramid in a corner,
+     * catalysts loaded with graviton inputs and full entropy, batteries fully
+     * charged. Fails if any machine falls asleep during the measurement.
+     */
+    @GameTest(template = ARENA, batch = "alientech_bench_machine_bank", timeoutTicks = TIMEOUT)
+    public static void machineBank(GameTestHelper helper) {
+        // Pirâmide válida: sem ela PyramidNetwork.getTier() == NONE e os catalisadores não processam
+        buildTier1Pyramid(helper, new BlockPos(3, 1, 3));
+
+        List<BlockPos> machines = new ArrayList<>();
+        for (int y = 1; y <= 3; y += 2) {
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    BlockPos pos = new BlockPos(x * 2 + 8, y, z * 2 + 8);
+                    if (((x + z) & 1) == 0) {
+                        helper.setBlock(pos, ModBlocks.PRIMAL_CATALYST.get());
+                        if (helper.getBlockEntity(pos) instanceof PrimalCatalystBlockEntity catalyst)
+                            primeCatalyst(catalyst);
+                    } else {
+                        helper.setBlock(pos, AlienBlocks.ANCIENT_BATTERY.get());
+                        if (helper.getBlockEntity(pos) instanceof AncientBatteryBlockEntity battery) {
+                            AlienEnergyStorage storage = battery.energyComponent.getEnergyStorage();
+                            storage.setEnergy(storage.getMaxEnergyStored());
+                        }
+                    }
+                    machines.add(helper.absolutePos(pos));
+                }
+            }
+        }
+        measure(helper, "machine_bank", machines.size(), machines);
+    }
+
+    // ==================== Harness ====================
+
+    private static void measure(GameTestHelper helper, String scenario, int scale) {
+        measure(helper, scenario, scale, List.of());
+    }
+
+    /**
+     * @param mustStayAwake absolute positions of machines that must stay on the
+     *                      tick schedule for the whole measurement window
+     */
+    private static void measure(GameTestHelper helper, String scenario, int scale, List<BlockPos> mustStayAwake) {
+        BenchmarkRecorder recorder = new BenchmarkRecorder(scenario, scale, MEASURE_TICKS);
+        helper.onEachTick(() -> {
+            if (helper.getTick() < WARMUP_TICKS || recorder.isComplete())
+                return;
+            if (helper.getTick() == WARMUP_TICKS)
+                assertAwake(helper, scenario, mustStayAwake, "start");
+            recorder.sample(helper.getLevel().getServer());
+            if (recorder.isComplete()) {
+                AlienTech.LOGGER.info("[Benchmark] {}", recorder.writeResults());
+                assertAwake(helper, scenario, mustStayAwake, "end");
+                helper.succeed();
+            }
+        });
+    }
+
+    /**
+     * A sleeping machine costs nothing, so a scenario measuring sleepers
+     * would report ~0 and never catch a regression.
+     */
+    private static void assertAwake(GameTestHelper helper, String scenario, List<BlockPos> machines, String when) {
+        if (machines.isEmpty())
+            return;
+        int asleep = 0;
+        for (BlockPos pos : machines) {
+            if (!(helper.getLevel().getBlockEntity(pos) instanceof AlienMachineBlockEntity machine)
+                    || machine.isSleeping())
+                asleep++;
+        }
+        AlienTech.LOGGER.info("[Benchmark] {}: {}/{} machines awake at {} of measurement", scenario,
+                machines.size() - asleep, machines.size(), when);
+        if (asleep > 0)
+            helper.fail(asleep + " of " + machines.size() + " machines were asleep at " + when
+                    + " of measurement in " + scenario);
+    }
+
+    private static void primeCatalyst(PrimalCatalystBlockEntity catalyst) {
+        // Receita inertial_stability_alloy: dois gravitons (shapeless)
+        catalyst.inventoryComponent.getHandler().insertItem(PrimalCatalystBlockEntity.INPUT_SLOT_1,
+                new ItemStack(ModItems.GRAVITON.get(), 64), false);
+        catalyst.inventoryComponent.getHandler().insertItem(PrimalCatalystBlockEntity.INPUT_SLOT_2,
+                new ItemStack(ModItems.GRAVITON.get(), 64), false);
+        catalyst.entropyComponent.setEntropyStored(catalyst.entropyComponent.getMaxEntropy());
+    }
+
+    private static int fillCuboid(GameTestHelper helper, Block block, int x0, int y0, int z0,
+            int sizeX, int sizeY, int sizeZ) {
+        for (int x = 0; x < sizeX; x++) {
+            for (int y = 0; y < sizeY; y++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    helper.setBlock(new BlockPos(x0 + x, y0 + y, z0 + z), block);
+                }
+            }
+        }
+        return sizeX * sizeY * sizeZ;
+    }
+
+    /**
+     * 5×5 casing, 3×3 gold, core on top — the minimum valid Tier 1 layout.
+     *
+     * @param base centre of the casing layer
+     */
+    private static void buildTier1Pyramid(GameTestHelper helper, BlockPos base) {
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                helper.setBlock(base.offset(x, 0, z), ModBlocks.ALIEN_PYRAMID_CASING.get());
+                if (Math.abs(x) <= 1 && Math.abs(z) <= 1) {
+                    helper.setBlock(base.offset(x, 1, z), Blocks.GOLD_BLOCK);
+                }
+            }
+        }
+        helper.setBlock(base.above(2), ModBlocks.PYRAMID_CORE.get());
+    }
+}
@@ -0,0 +1,53 @@
+package net.nicotfpn.alientech.jmh;
+
+import net.nicotfpn.alientech.entropy.EntropyStorage;
+import net.nicotfpn.alientech.entropy.EntropyTransaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link EntropyStorage} insert/extract and {@link EntropyTransaction#transfer}
+ * — the inner loop of every entropy cable network and reservoir.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EntropyBenchmark {
+
+    private EntropyStorage source;
+    private EntropyStorage dest;
+
+    @Setup
+    public void setup() {
+        source = new EntropyStorage(1_000_000_000L, null);
+        dest = new EntropyStorage(1_000_000_000L, null);
+        source.insertEntropy(500_000_000L, false);
+    }
+
+    @Benchmark
+    public long insertExtract() {
+        long inserted = dest.insertEntropy(100L, false);
+        return inserted + dest.extractEntropy(100L, false);
+    }
+
+    @Benchmark
+    public long simulateInsert() {
+        return dest.insertEntropy(100L, true);
+    }
+
+    @Benchmark
+    public long transfer() {
+        // Ping-pong keeps both buffers away from empty/full
+        long forward = EntropyTransaction.transfer(source, dest, 100L).getAmount();
+        return forward + EntropyTransaction.transfer(dest, source, 100L).getAmount();
+    }
+}
@@ -0,0 +1,61 @@
+package net.nicotfpn.alientech.jmh;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.NonNullList;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.nicotfpn.alientech.recipe.PrimalCatalystRecipe;
+import net.nicotfpn.alientech.recipe.PrimalCatalystRecipeInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link PrimalCatalystRecipe#matches} for a hit (shuffled inputs) and an
+ * early miss. Needs the vanilla registries, so the trial bootstraps them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PrimalCatalystRecipeBenchmark {
+
+    private PrimalCatalystRecipe recipe;
+    private PrimalCatalystRecipeInput hit;
+    private PrimalCatalystRecipeInput miss;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        recipe = new PrimalCatalystRecipe(
+                NonNullList.of(Ingredient.EMPTY, Ingredient.of(Items.DIAMOND), Ingredient.of(Items.GOLD_INGOT),
+                        Ingredient.of(Items.REDSTONE)),
+                new ItemStack(Items.NETHER_STAR), 1.0f);
+        hit = new PrimalCatalystRecipeInput(new ItemStack(Items.REDSTONE), new ItemStack(Items.DIAMOND),
+                new ItemStack(Items.GOLD_INGOT));
+        miss = new PrimalCatalystRecipeInput(new ItemStack(Items.STONE), new ItemStack(Items.DIRT),
+                new ItemStack(Items.GOLD_INGOT));
+    }
+
+    @Benchmark
+    public boolean matchesHit() {
+        return recipe.matches(hit, null);
+    }
+
+    @Benchmark
+    public boolean matchesMiss() {
+        return recipe.matches(miss, null);
+    }
+}
@@ -0,0 +1,54 @@
+package net.nicotfpn.alientech.jmh;
+
+import net.minecraft.core.Direction;
+import net.nicotfpn.alientech.machine.core.component.SideConfigComponent;
+import net.nicotfpn.alientech.network.sideconfig.CapabilityType;
+import net.nicotfpn.alientech.network.sideconfig.IOSideMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link SideConfigComponent} lookups as done by the sided capability
+ * wrappers and the auto-transfer component, every tick, per face.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SideConfigBenchmark {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final CapabilityType[] TYPES = CapabilityType.values();
+
+    private SideConfigComponent sideConfig;
+
+    @Setup
+    public void setup() {
+        sideConfig = new SideConfigComponent(null);
+        sideConfig.setMode(Direction.NORTH, CapabilityType.ITEM, IOSideMode.PUSH);
+        sideConfig.setMode(Direction.UP, CapabilityType.ENERGY, IOSideMode.INPUT);
+    }
+
+    @Benchmark
+    public void getModeAllFaces(Blackhole bh) {
+        for (CapabilityType type : TYPES) {
+            for (Direction dir : DIRECTIONS) {
+                bh.consume(sideConfig.getMode(dir, type));
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean hasAnyActiveTransfer() {
+        return sideConfig.hasAnyActiveTransfer();
+    }
+}
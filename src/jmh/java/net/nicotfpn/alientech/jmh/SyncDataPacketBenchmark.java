@@ -0,0 +1,54 @@
+package net.nicotfpn.alientech.jmh;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.nicotfpn.alientech.network.SyncDataPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link SyncDataPacket} wire encode/decode for a typical six-slot machine
+ * GUI update (mixed int and long slots).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SyncDataPacketBenchmark {
+
+    private SyncDataPacket packet;
+    private FriendlyByteBuf buffer;
+    private FriendlyByteBuf encoded;
+
+    @Setup
+    public void setup() {
+        packet = new SyncDataPacket(3,
+                new int[] { 0, 1, 2, 3, 4, 5 },
+                new long[] { 57, 200, 812_345, 1_000_000, 4_000_000_000L, 10_000_000_000L },
+                new boolean[] { true, true, true, true, false, false });
+        buffer = new FriendlyByteBuf(Unpooled.buffer(256));
+        encoded = new FriendlyByteBuf(Unpooled.buffer(256));
+        SyncDataPacket.STREAM_CODEC.encode(encoded, packet);
+    }
+
+    @Benchmark
+    public int encode() {
+        buffer.clear();
+        SyncDataPacket.STREAM_CODEC.encode(buffer, packet);
+        return buffer.writerIndex();
+    }
+
+    @Benchmark
+    public SyncDataPacket decode() {
+        encoded.readerIndex(0);
+        return SyncDataPacket.STREAM_CODEC.decode(encoded);
+    }
+}
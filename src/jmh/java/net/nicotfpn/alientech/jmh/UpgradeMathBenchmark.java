@@ -0,0 +1,59 @@
+package net.nicotfpn.alientech.jmh;
+
+import net.nicotfpn.alientech.machine.core.upgrade.UpgradeComponent;
+import net.nicotfpn.alientech.machine.core.upgrade.UpgradeType;
+import net.nicotfpn.alientech.util.ScalingMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Upgrade multiplier math ({@link UpgradeComponent}) and {@link ScalingMath},
+ * evaluated by processing machines on every progress step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UpgradeMathBenchmark {
+
+    @Param({ "0", "4", "8" })
+    public int upgrades;
+
+    private UpgradeComponent component;
+
+    @Setup
+    public void setup() {
+        component = new UpgradeComponent(null);
+        component.setUpgradeCount(UpgradeType.SPEED, upgrades);
+        component.setUpgradeCount(UpgradeType.ENERGY, upgrades / 2);
+    }
+
+    @Benchmark
+    public double speedMultiplier() {
+        return component.getMultiplier(UpgradeType.SPEED);
+    }
+
+    @Benchmark
+    public double energyMultiplier() {
+        return component.getEnergyMultiplier();
+    }
+
+    @Benchmark
+    public long scalingMathScale() {
+        return ScalingMath.scale(1000L, upgrades, 0.5);
+    }
+
+    @Benchmark
+    public long scalingMathScaleDown() {
+        return ScalingMath.scaleDown(1000L, upgrades, 0.5);
+    }
+}
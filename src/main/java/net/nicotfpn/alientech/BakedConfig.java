@@ -0,0 +1,101 @@
+package net.nicotfpn.alientech;
+
+import net.neoforged.neoforge.common.ModConfigSpec;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the server {@link Config} values read on tick paths.
+ * <p>
+ * {@code ModConfigSpec} values go through the config machinery on every
+ * {@code get()}; hot paths read {@link #get()} instead, which is a single
+ * volatile read followed by plain final fields. The snapshot is rebuilt on
+ * {@code ModConfigEvent.Loading/Reloading} (see
+ * {@code event.ConfigEvents}); until the server config is loaded it holds
+ * the spec defaults. Lists are copied into immutable lists on bake.
+ * <p>
+ * Values only read once (capacities in block entity constructors, item
+ * properties) keep using {@link Config} directly.
+ */
+public record BakedConfig(
+        // Quantum Vacuum Turbine
+        int qvtFePerTick,
+        int qvtBurnTimePerGraviton,
+        int qvtMaxPushPerTick,
+        // Pyramid
+        int pyramidScanInterval,
+        int pyramidBoostRange,
+        int pyramidCoreGeneration,
+        // Entropy transport
+        int entropyCableTransferRate,
+        // Primal Catalyst
+        int primalCatalystEnergyPerTick,
+        int primalCatalystProcessTime,
+        // Decay Chamber
+        int decayChamberTicksPerHp,
+        double decayChamberBiomassPerHp,
+        int decayChamberBaseEntropyPerTick,
+        double alienEntropyMultiplier,
+        // Evolution Chamber
+        int maxEvolutionStage,
+        List<Integer> evolutionTicksPerStage,
+        List<Integer> evolutionEntropyCost,
+        // Item auto-transfer
+        int autoTransferItemsPerOperation,
+        int autoTransferStacksPerOperation) {
+
+    private static volatile BakedConfig current;
+
+    /**
+     * @return the current snapshot (spec defaults until the server config loads)
+     */
+    public static BakedConfig get() {
+        BakedConfig baked = current;
+        if (baked == null) {
+            baked = bake();
+            current = baked;
+        }
+        return baked;
+    }
+
+    /**
+     * Rebuild the snapshot from the live config values.
+     */
+    public static void rebuild() {
+        current = bake();
+    }
+
+    /**
+     * Drop the snapshot (config unloaded); the next read re-bakes.
+     */
+    public static void invalidate() {
+        current = null;
+    }
+
+    private static BakedConfig bake() {
+        boolean loaded = Config.SERVER_SPEC.isLoaded();
+        return new BakedConfig(
+                value(Config.QVT_FE_PER_TICK, loaded),
+                value(Config.QVT_BURN_TIME_PER_GRAVITON, loaded),
+                value(Config.QVT_MAX_PUSH_PER_TICK, loaded),
+                value(Config.PYRAMID_SCAN_INTERVAL, loaded),
+                value(Config.PYRAMID_BOOST_RANGE, loaded),
+                value(Config.PYRAMID_CORE_GENERATION, loaded),
+                value(Config.ENTROPY_CABLE_TRANSFER_RATE, loaded),
+                value(Config.PRIMAL_CATALYST_ENERGY_PER_TICK, loaded),
+                value(Config.PRIMAL_CATALYST_PROCESS_TIME, loaded),
+                value(Config.DECAY_CHAMBER_TICKS_PER_HP, loaded),
+                value(Config.DECAY_CHAMBER_BIOMASS_PER_HP, loaded),
+                value(Config.DECAY_CHAMBER_BASE_ENTROPY_PER_TICK, loaded),
+                value(Config.ALIEN_ENTROPY_MULTIPLIER, loaded),
+                value(Config.MAX_EVOLUTION_STAGE, loaded),
+                List.copyOf(value(Config.EVOLUTION_CHAMBER_TICKS_PER_STAGE, loaded)),
+                List.copyOf(value(Config.EVOLUTION_CHAMBER_ENTROPY_COST, loaded)),
+                value(Config.AUTO_TRANSFER_ITEMS_PER_OPERATION, loaded),
+                value(Config.AUTO_TRANSFER_STACKS_PER_OPERATION, loaded));
+    }
+
+    private static <T> T value(ModConfigSpec.ConfigValue<T> config, boolean loaded) {
+        return loaded ? config.get() : config.getDefault();
+    }
+}
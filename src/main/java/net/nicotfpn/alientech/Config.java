@@ -87,6 +87,14 @@ public class Config {
                         .comment("Maximum entropy storage for the Decay Chamber Controller")
                         .defineInRange("decayChamberEntropyCapacity", 10000, 100, 1_000_000);
 
+        public static final ModConfigSpec.IntValue DECAY_CHAMBER_BASE_ENTROPY_PER_TICK = SERVER_BUILDER
+                        .comment("Entropy generated per tick while a mob is decaying")
+                        .defineInRange("decayChamberBaseEntropyPerTick", 5, 0, 100_000);
+
+        public static final ModConfigSpec.DoubleValue ALIEN_ENTROPY_MULTIPLIER = SERVER_BUILDER
+                        .comment("Entropy multiplier for decay-immune (alien) mobs held in the Decay Chamber")
+                        .defineInRange("alienEntropyMultiplier", 2.0, 0.0, 100.0);
+
         // === Phase 4: Entropy Reservoir ===
 
         public static final ModConfigSpec.IntValue ENTROPY_RESERVOIR_CAPACITY = SERVER_BUILDER
@@ -126,7 +134,7 @@ public class Config {
                         .defineInRange("pyramidScanInterval", 200, 20, 10000);
 
         public static final ModConfigSpec.IntValue PYRAMID_BOOST_RANGE = SERVER_BUILDER
-                        .comment("Block radius to search for turbines around a Pyramid Core")
+                        .comment("Block radius (cube) around a Pyramid Core in which turbines receive the boost")
                         .defineInRange("pyramidBoostRange", 32, 1, 128);
 
         public static final ModConfigSpec.DoubleValue PYRAMID_TIER1_MULTIPLIER = SERVER_BUILDER
@@ -215,13 +223,29 @@ public class Config {
                         .comment("Maximum evolution stage players can reach")
                         .defineInRange("maxEvolutionStage", 5, 1, 10);
 
-        public static final ModConfigSpec.ConfigValue<int[]> EVOLUTION_CHAMBER_ENTROPY_COST = SERVER_BUILDER
+        public static final ModConfigSpec.IntValue EVOLUTION_CHAMBER_ENTROPY_CAPACITY = SERVER_BUILDER
+                        .comment("Maximum entropy storage for the Evolution Chamber")
+                        .defineInRange("evolutionChamberEntropyCapacity", 1_000_000, 1000, Integer.MAX_VALUE);
+
+        public static final ModConfigSpec.ConfigValue<List<? extends Integer>> EVOLUTION_CHAMBER_ENTROPY_COST = SERVER_BUILDER
                         .comment("Entropy cost per evolution stage (index = stage)")
-                        .define("evolutionChamberEntropyCost", new int[] { 0, 5000, 20000, 80000, 250000, 1000000 });
+                        .defineList("evolutionChamberEntropyCost", List.of(0, 5000, 20000, 80000, 250000, 1000000),
+                                        () -> 0, obj -> obj instanceof Integer i && i >= 0);
 
-        public static final ModConfigSpec.ConfigValue<int[]> EVOLUTION_CHAMBER_TICKS_PER_STAGE = SERVER_BUILDER
+        public static final ModConfigSpec.ConfigValue<List<? extends Integer>> EVOLUTION_CHAMBER_TICKS_PER_STAGE = SERVER_BUILDER
                         .comment("Processing ticks required per evolution stage (index = stage)")
-                        .define("evolutionChamberTicksPerStage", new int[] { 0, 200, 400, 600, 800, 1200 });
+                        .defineList("evolutionChamberTicksPerStage", List.of(0, 200, 400, 600, 800, 1200),
+                                        () -> 0, obj -> obj instanceof Integer i && i >= 0);
+
+        // === Item Auto-Transfer ===
+
+        public static final ModConfigSpec.IntValue AUTO_TRANSFER_ITEMS_PER_OPERATION = SERVER_BUILDER
+                        .comment("Maximum items a machine moves per auto-transfer tick (PUSH/PULL faces combined)")
+                        .defineInRange("autoTransferItemsPerOperation", 256, 1, 4096);
+
+        public static final ModConfigSpec.IntValue AUTO_TRANSFER_STACKS_PER_OPERATION = SERVER_BUILDER
+                        .comment("Maximum source slots a machine drains per auto-transfer tick")
+                        .defineInRange("autoTransferStacksPerOperation", 4, 1, 64);
 
         public static final ModConfigSpec SERVER_SPEC = SERVER_BUILDER.build();
 
@@ -15,8 +15,6 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.HorizontalDirectionalBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.DirectionProperty;
@@ -25,7 +23,6 @@ import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import net.nicotfpn.alientech.block.entity.AncientBatteryBlockEntity;
-import net.nicotfpn.alientech.block.entity.ModBlockEntities;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -71,11 +68,10 @@ public class AncientBatteryBlock extends Block implements EntityBlock {
         if (!level.isClientSide) {
             BlockEntity blockEntity = level.getBlockEntity(pos);
             if (blockEntity instanceof AncientBatteryBlockEntity batteryEntity) {
-                // Check for "Energy" in CustomData
-                net.minecraft.world.item.component.CustomData customData = stack
-                        .get(net.minecraft.core.component.DataComponents.CUSTOM_DATA);
-                if (customData != null && customData.contains("Energy")) {
-                    int energy = customData.copyTag().getInt("Energy");
+                // Stored FE component; getEnergy also decodes legacy CustomData "Energy" without
+                // touching the stack (migration happens in inventoryTick or on the first write)
+                int energy = net.nicotfpn.alientech.item.custom.ItemEnergyStorage.getEnergy(stack);
+                if (energy > 0) {
                     if (batteryEntity
                             .getEnergyStorage() instanceof net.nicotfpn.alientech.util.SyncableEnergyStorage syncStorage) {
                         syncStorage.setEnergy(energy);
@@ -93,13 +89,7 @@ public class AncientBatteryBlock extends Block implements EntityBlock {
         if (level.getBlockEntity(pos) instanceof AncientBatteryBlockEntity battery) {
             int energy = battery.getEnergyStorage().getEnergyStored();
             if (energy > 0) {
-                stack.set(net.minecraft.core.component.DataComponents.CUSTOM_DATA,
-                        net.minecraft.world.item.component.CustomData.of(
-                                new net.minecraft.nbt.CompoundTag() {
-                                    {
-                                        putInt("Energy", energy);
-                                    }
-                                }));
+                stack.set(net.nicotfpn.alientech.item.data.ModDataComponents.STORED_ENERGY.get(), energy);
             }
         }
         return stack;
@@ -111,25 +101,6 @@ public class AncientBatteryBlock extends Block implements EntityBlock {
         return new AncientBatteryBlockEntity(pos, state);
     }
 
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state,
-            BlockEntityType<T> type) {
-        if (level.isClientSide())
-            return null;
-        return createTickerHelper(type, ModBlockEntities.ANCIENT_BATTERY_BE.get(),
-                (lvl, pos, st, be) -> be.tickServer());
-    }
-
-    @Nullable
-    @SuppressWarnings("unchecked")
-    private static <E extends BlockEntity, A extends BlockEntity> BlockEntityTicker<A> createTickerHelper(
-            BlockEntityType<A> serverType,
-            BlockEntityType<E> clientType,
-            BlockEntityTicker<? super E> ticker) {
-        return clientType == serverType ? (BlockEntityTicker<A>) ticker : null;
-    }
-
     private static final VoxelShape SHAPE_NS = Shapes.or(
             Block.box(3, 0, 3, 13, 2, 13), // Base
             Block.box(3.6, 2, 3.6, 12.4, 10, 12.4), // Core
@@ -107,13 +107,7 @@ public class AncientChargerBlock extends BaseEntityBlock {
         if (level.getBlockEntity(pos) instanceof AncientChargerBlockEntity charger) {
             int energy = charger.getEnergyStorage().getEnergyStored();
             if (energy > 0) {
-                stack.set(net.minecraft.core.component.DataComponents.CUSTOM_DATA,
-                        net.minecraft.world.item.component.CustomData.of(
-                                new net.minecraft.nbt.CompoundTag() {
-                                    {
-                                        putInt("Energy", energy);
-                                    }
-                                }));
+                stack.set(net.nicotfpn.alientech.item.data.ModDataComponents.STORED_ENERGY.get(), energy);
             }
         }
         return stack;
@@ -132,8 +126,7 @@ public class AncientChargerBlock extends BaseEntityBlock {
             return createTickerHelper(type, ModBlockEntities.ANCIENT_CHARGER_BE.get(),
                     (lvl, pos, st, be) -> be.tickClient());
         }
-        return createTickerHelper(type, ModBlockEntities.ANCIENT_CHARGER_BE.get(),
-                (lvl, pos, st, be) -> be.tickServer());
+        return null; // Server side runs on MachineTickScheduler
     }
 
     // ==================== Comparator Output ====================
@@ -19,6 +19,7 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraft.world.level.block.state.properties.DirectionProperty;
 import net.nicotfpn.alientech.block.entity.CreativeAncientBatteryBlockEntity;
 import net.nicotfpn.alientech.block.entity.ModBlockEntities;
+import net.nicotfpn.alientech.metrics.TickProfiler;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -78,7 +79,9 @@ public class CreativeAncientBatteryBlock extends Block implements EntityBlock {
         }
         return (lvl, pos, st, be) -> {
             if (be instanceof CreativeAncientBatteryBlockEntity battery) {
+                long profiled = TickProfiler.begin();
                 battery.tick();
+                TickProfiler.endBlockEntity(battery, profiled);
             }
         };
     }
@@ -2,15 +2,11 @@ package net.nicotfpn.alientech.block.custom;
 
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.nicotfpn.alientech.block.entity.EnergyCableBlockEntity;
-import net.nicotfpn.alientech.block.entity.ModBlockEntities;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -19,9 +15,9 @@ import org.jetbrains.annotations.Nullable;
  * expose
  * the NeoForge {@code Capabilities.EnergyStorage.BLOCK} capability.
  * <p>
- * This block delegates the actual transfer logic to
- * {@link EntropyCableBlockEntity}
- * (which is shared between entropy and energy cables).
+ * Cables have no ticker: connected cables are merged into an
+ * {@link net.nicotfpn.alientech.network.cable.EnergyCableNetwork} whose buffer
+ * is sized from the tier {@link #getTransferRate() transfer rates}.
  */
 public class EnergyCableBlock extends BaseEntityBlock {
 
@@ -57,14 +53,4 @@ public class EnergyCableBlock extends BaseEntityBlock {
     public @NotNull RenderShape getRenderShape(@NotNull BlockState state) {
         return RenderShape.MODEL;
     }
-
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level,
-            @NotNull BlockState state, @NotNull BlockEntityType<T> type) {
-        if (level.isClientSide)
-            return null;
-        return createTickerHelper(type, ModBlockEntities.ENERGY_CABLE_BE.get(),
-                (lvl, pos, st, be) -> be.serverTick());
-    }
 }
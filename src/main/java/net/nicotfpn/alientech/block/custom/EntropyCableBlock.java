@@ -2,15 +2,11 @@ package net.nicotfpn.alientech.block.custom;
 
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.nicotfpn.alientech.block.entity.EntropyCableBlockEntity;
-import net.nicotfpn.alientech.block.entity.ModBlockEntities;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -19,6 +15,9 @@ import org.jetbrains.annotations.Nullable;
  * <p>
  * No GUI, no stored entropy. Pure transport conduit.
  * Uses cube_all model (simple visual, no custom rendering).
+ * <p>
+ * No ticker: transport runs per network in
+ * {@link net.nicotfpn.alientech.network.cable.EntropyCableNetwork}.
  */
 public class EntropyCableBlock extends BaseEntityBlock {
 
@@ -43,14 +42,4 @@ public class EntropyCableBlock extends BaseEntityBlock {
     public @NotNull RenderShape getRenderShape(@NotNull BlockState state) {
         return RenderShape.MODEL;
     }
-
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level,
-            @NotNull BlockState state, @NotNull BlockEntityType<T> type) {
-        if (level.isClientSide)
-            return null;
-        return createTickerHelper(type, ModBlockEntities.ENTROPY_CABLE_BE.get(),
-                (lvl, pos, st, be) -> be.serverTick());
-    }
 }
@@ -11,8 +11,6 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.Rotation;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
@@ -22,7 +20,6 @@ import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
-import net.nicotfpn.alientech.block.entity.ModBlockEntities;
 import net.nicotfpn.alientech.block.entity.PyramidCoreBlockEntity;
 import org.jetbrains.annotations.Nullable;
 
@@ -117,26 +114,6 @@ public class PyramidCoreBlock extends Block implements EntityBlock {
         return new PyramidCoreBlockEntity(pos, state);
     }
 
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state,
-            BlockEntityType<T> type) {
-        if (level.isClientSide())
-            return null;
-        return createTickerHelper(type, ModBlockEntities.PYRAMID_CORE_BE.get(),
-                (lvl, pos, st, be) -> net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity.tickServer(lvl, pos,
-                        st, be));
-    }
-
-    @Nullable
-    @SuppressWarnings("unchecked")
-    private static <E extends BlockEntity, A extends BlockEntity> BlockEntityTicker<A> createTickerHelper(
-            BlockEntityType<A> serverType,
-            BlockEntityType<E> clientType,
-            BlockEntityTicker<? super E> ticker) {
-        return clientType == serverType ? (BlockEntityTicker<A>) ticker : null;
-    }
-
     // ==================== Interaction ====================
 
     @Override
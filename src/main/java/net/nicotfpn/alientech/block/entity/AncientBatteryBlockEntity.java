@@ -10,7 +10,6 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
-import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.energy.IEnergyStorage;
 import net.nicotfpn.alientech.Config;
 import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
@@ -123,12 +122,23 @@ public class AncientBatteryBlockEntity extends AlienMachineBlockEntity implement
         }
 
         if (didWork) {
-            setChanged();
+            markDirty();
         }
 
         super.tickServer();
     }
 
+    /**
+     * Empty battery with empty slots: wakes on energy received or item inserted.
+     */
+    @Override
+    protected boolean isIdle() {
+        return energyComponent.getEnergyStorage().getEnergyStored() <= 0
+                && inventoryComponent.getHandler().getStackInSlot(CHARGE_SLOT).isEmpty()
+                && inventoryComponent.getHandler().getStackInSlot(DISCHARGE_SLOT).isEmpty()
+                && !hasActiveComponents();
+    }
+
     private boolean pushEnergyToNeighbors() {
         if (level == null)
             return false;
@@ -138,8 +148,7 @@ public class AncientBatteryBlockEntity extends AlienMachineBlockEntity implement
             if (energyComponent.getEnergyStorage().getEnergyStored() <= 0)
                 break;
 
-            IEnergyStorage cap = level.getCapability(Capabilities.EnergyStorage.BLOCK, worldPosition.relative(dir),
-                    dir.getOpposite());
+            IEnergyStorage cap = getNeighborEnergy(dir);
             if (cap != null && cap.canReceive()) {
                 int toSend = Math.min(MAX_TRANSFER, energyComponent.getEnergyStorage().getEnergyStored());
                 int accepted = cap.receiveEnergy(toSend, false);
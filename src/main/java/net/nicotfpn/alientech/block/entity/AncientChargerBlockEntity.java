@@ -6,6 +6,7 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
@@ -13,6 +14,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.energy.IEnergyStorage;
 import net.neoforged.neoforge.items.IItemHandler;
@@ -47,8 +49,9 @@ public class AncientChargerBlockEntity extends AlienMachineBlockEntity
     private static final int CACHE_REFRESH_INTERVAL = 100;
     private static final int SLOT_COUNT = 1;
 
-    private final List<BlockPos> cachedCores = new ArrayList<>();
-    private final List<BlockPos> cachedBatteries = new ArrayList<>();
+    // Vizinhos (incl. diagonais) com cache de capability, reutilizados entre varreduras
+    private final List<NeighborLink> cachedCores = new ArrayList<>();
+    private final List<NeighborLink> cachedBatteries = new ArrayList<>();
     private long lastCacheUpdate = 0;
 
     // ==================== Components ====================
@@ -106,7 +109,7 @@ public class AncientChargerBlockEntity extends AlienMachineBlockEntity
         didWork |= chargeDockedItem();
 
         if (didWork) {
-            setChanged();
+            markDirty();
         }
 
         super.tickServer();
@@ -129,19 +132,28 @@ public class AncientChargerBlockEntity extends AlienMachineBlockEntity
         return false;
     }
 
+    /**
+     * Rescan the 3×3×3 neighbourhood. Links to positions that still hold the
+     * same kind of block entity keep their capability cache; only new
+     * positions create one.
+     */
     private void refreshNeighborCache(Level level, BlockPos center) {
+        List<NeighborLink> oldCores = new ArrayList<>(cachedCores);
+        List<NeighborLink> oldBatteries = new ArrayList<>(cachedBatteries);
         cachedCores.clear();
         cachedBatteries.clear();
-        BlockPos.betweenClosedStream(center.offset(-1, -1, -1), center.offset(1, 1, 1)).forEach(pos -> {
-            if (pos.equals(center))
-                return;
-            BlockEntity be = level.getBlockEntity(pos);
-            if (be instanceof PyramidCoreBlockEntity) {
-                cachedCores.add(pos.immutable());
-            } else if (be instanceof AncientBatteryBlockEntity) {
-                cachedBatteries.add(pos.immutable());
-            }
-        });
+        if (level instanceof ServerLevel serverLevel) {
+            BlockPos.betweenClosedStream(center.offset(-1, -1, -1), center.offset(1, 1, 1)).forEach(pos -> {
+                if (pos.equals(center))
+                    return;
+                BlockEntity be = level.getBlockEntity(pos);
+                if (be instanceof PyramidCoreBlockEntity) {
+                    cachedCores.add(NeighborLink.reuseOrCreate(oldCores, serverLevel, center, pos));
+                } else if (be instanceof AncientBatteryBlockEntity) {
+                    cachedBatteries.add(NeighborLink.reuseOrCreate(oldBatteries, serverLevel, center, pos));
+                }
+            });
+        }
         lastCacheUpdate = level.getGameTime();
     }
 
@@ -149,14 +161,13 @@ public class AncientChargerBlockEntity extends AlienMachineBlockEntity
         boolean didWork = false;
         if (energyComponent.getEnergyStorage().getEnergyStored() < energyComponent.getEnergyStorage()
                 .getMaxEnergyStored()) {
-            for (BlockPos pos : cachedCores) {
-                Direction dir = Direction.getNearest(pos.getX() - worldPosition.getX(),
-                        pos.getY() - worldPosition.getY(), pos.getZ() - worldPosition.getZ());
+            for (NeighborLink core : cachedCores) {
+                Direction dir = core.direction;
                 if (sideConfig.getMode(dir, CapabilityType.ENERGY) != IOSideMode.INPUT &&
                         sideConfig.getMode(dir, CapabilityType.ENERGY) != IOSideMode.PULL) {
                     continue;
                 }
-                IEnergyStorage coreCap = level.getCapability(Capabilities.EnergyStorage.BLOCK, pos, null);
+                IEnergyStorage coreCap = core.cache.getCapability();
                 if (coreCap != null && coreCap.canExtract()) {
                     if (EnergyUtils.pullEnergy(energyComponent.getEnergyStorage(), coreCap, MAX_TRANSFER) > 0)
                         didWork = true;
@@ -164,14 +175,13 @@ public class AncientChargerBlockEntity extends AlienMachineBlockEntity
             }
         }
         if (energyComponent.getEnergyStorage().getEnergyStored() > 0) {
-            for (BlockPos pos : cachedBatteries) {
-                Direction dir = Direction.getNearest(pos.getX() - worldPosition.getX(),
-                        pos.getY() - worldPosition.getY(), pos.getZ() - worldPosition.getZ());
+            for (NeighborLink battery : cachedBatteries) {
+                Direction dir = battery.direction;
                 if (sideConfig.getMode(dir, CapabilityType.ENERGY) != IOSideMode.OUTPUT &&
                         sideConfig.getMode(dir, CapabilityType.ENERGY) != IOSideMode.PUSH) {
                     continue;
                 }
-                IEnergyStorage batCap = level.getCapability(Capabilities.EnergyStorage.BLOCK, pos, null);
+                IEnergyStorage batCap = battery.cache.getCapability();
                 if (batCap != null && batCap.canReceive()) {
                     if (EnergyUtils.pushEnergy(energyComponent.getEnergyStorage(), batCap, MAX_TRANSFER) > 0)
                         didWork = true;
@@ -181,6 +191,32 @@ public class AncientChargerBlockEntity extends AlienMachineBlockEntity
         return didWork;
     }
 
+    /**
+     * A core or battery next to the charger (diagonals included), with its
+     * energy capability cache and the face used for the side configuration.
+     */
+    private static final class NeighborLink {
+        private final BlockPos pos;
+        private final Direction direction;
+        private final BlockCapabilityCache<IEnergyStorage, Direction> cache;
+
+        private NeighborLink(ServerLevel level, BlockPos center, BlockPos pos) {
+            this.pos = pos.immutable();
+            this.direction = Direction.getNearest(pos.getX() - center.getX(), pos.getY() - center.getY(),
+                    pos.getZ() - center.getZ());
+            this.cache = BlockCapabilityCache.create(Capabilities.EnergyStorage.BLOCK, level, this.pos, null);
+        }
+
+        private static NeighborLink reuseOrCreate(List<NeighborLink> previous, ServerLevel level, BlockPos center,
+                BlockPos pos) {
+            for (NeighborLink link : previous) {
+                if (link.pos.equals(pos))
+                    return link;
+            }
+            return new NeighborLink(level, center, pos);
+        }
+    }
+
     // ==================== IHudProvider ====================
 
     @Override
@@ -7,14 +7,17 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.energy.IEnergyStorage;
 import net.nicotfpn.alientech.block.custom.EnergyCableBlock;
-import net.nicotfpn.alientech.util.CapabilityUtils;
-import net.nicotfpn.alientech.util.EnergyUtils;
-import net.nicotfpn.alientech.util.SyncableEnergyStorage;
+import net.nicotfpn.alientech.machine.core.capability.CapabilityCacheManager;
+import net.nicotfpn.alientech.network.cable.CableNetwork;
+import net.nicotfpn.alientech.network.cable.CableNetworkManager;
+import net.nicotfpn.alientech.network.cable.EnergyCableNetwork;
+import net.nicotfpn.alientech.network.cable.NetworkedCable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -22,23 +25,27 @@ import org.jetbrains.annotations.Nullable;
  * Energy Cable Block Entity — transports Forge Energy (FE) between adjacent
  * blocks.
  * <p>
- * Uses a small internal buffer to allow energy to flow through chains of
- * cables.
+ * Cables do not tick. Connected cables form an {@link EnergyCableNetwork}
+ * with one shared buffer, ticked once per level tick by
+ * {@link CableNetworkManager}. The capability exposed by this cable is a view
+ * onto that shared buffer, limited to this cable's tier rate.
  */
-public class EnergyCableBlockEntity extends BlockEntity {
+public class EnergyCableBlockEntity extends BlockEntity implements NetworkedCable {
 
-    private static final int TICK_INTERVAL = 5;
-    private int tickCount = 0;
+    private final int transferRate;
+    private final IEnergyStorage energyView = new CableEnergyView();
 
-    private final SyncableEnergyStorage energyStorage;
+    @Nullable
+    private EnergyCableNetwork network;
+    @Nullable
+    private CapabilityCacheManager<IEnergyStorage, Direction> neighborEnergy;
+
+    // Share of the network buffer restored from NBT, handed over on join
+    private int pendingEnergy = 0;
 
     public EnergyCableBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.ENERGY_CABLE_BE.get(), pos, state);
-
-        int baseRate = getBaseRateForBlock(state.getBlock());
-        int maxTransfer = Math.max(1, baseRate);
-        int capacity = maxTransfer * 4; // small buffer to smooth transfer across multiple segments
-        this.energyStorage = new SyncableEnergyStorage(capacity, maxTransfer, maxTransfer, this::setChanged);
+        this.transferRate = Math.max(1, getBaseRateForBlock(state.getBlock()));
     }
 
     private static int getBaseRateForBlock(net.minecraft.world.level.block.Block block) {
@@ -49,67 +56,84 @@ public class EnergyCableBlockEntity extends BlockEntity {
         return 1000;
     }
 
-    public void serverTick() {
-        tickCount++;
-        if (!CapabilityUtils.isValidServerLevel(level)) {
-            return;
-        }
+    public int getTransferRate() {
+        return transferRate;
+    }
+
+    // ==================== Network Membership ====================
 
-        // Throttle: only process every TICK_INTERVAL ticks
-        if (tickCount % TICK_INTERVAL != 0) {
-            return;
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level instanceof ServerLevel serverLevel) {
+            // Neighbour changes flag the network's endpoint list instead of being polled
+            this.neighborEnergy = new CapabilityCacheManager<>(Capabilities.EnergyStorage.BLOCK, serverLevel,
+                    worldPosition, () -> {
+                        if (network != null)
+                            network.markEndpointsDirty();
+                    });
+            CableNetworkManager.get(serverLevel).onCableLoaded(this, EnergyCableNetwork::new);
         }
+    }
 
-        int transferRate = getBaseRateForBlock(getBlockState().getBlock()) * TICK_INTERVAL;
-        if (transferRate <= 0) {
-            return;
+    @Override
+    public void setRemoved() {
+        if (level instanceof ServerLevel serverLevel) {
+            CableNetworkManager.get(serverLevel).onCableRemoved(this);
         }
+        if (neighborEnergy != null) {
+            neighborEnergy.invalidateAll();
+            neighborEnergy = null;
+        }
+        super.setRemoved();
+    }
 
-        transferEnergy(transferRate);
+    @Override
+    @Nullable
+    public CableNetwork<?> getNetwork() {
+        return network;
     }
 
-    private void transferEnergy(int transferRate) {
-        if (transferRate <= 0 || level == null) {
-            return;
-        }
+    @Override
+    public void setNetwork(@Nullable CableNetwork<?> network) {
+        this.network = (EnergyCableNetwork) network;
+    }
 
-        // Pull energy from neighbors into local buffer
-        for (Direction dir : Direction.values()) {
-            IEnergyStorage neighbor = level.getCapability(Capabilities.EnergyStorage.BLOCK,
-                    worldPosition.relative(dir), dir.getOpposite());
-            if (neighbor == null || !neighbor.canExtract()) {
-                continue;
-            }
-            EnergyUtils.pullEnergy(energyStorage, neighbor, transferRate);
-        }
+    /**
+     * Cached neighbour energy handler on the given face (network use only).
+     */
+    @Nullable
+    public IEnergyStorage getNeighborEnergy(Direction dir) {
+        return neighborEnergy != null ? neighborEnergy.getCapability(dir) : null;
+    }
 
-        // Push energy from local buffer to neighbors
-        for (Direction dir : Direction.values()) {
-            IEnergyStorage neighbor = level.getCapability(Capabilities.EnergyStorage.BLOCK,
-                    worldPosition.relative(dir), dir.getOpposite());
-            if (neighbor == null || !neighbor.canReceive()) {
-                continue;
-            }
-            EnergyUtils.pushEnergy(energyStorage, neighbor, transferRate);
-        }
+    /**
+     * Hand the energy restored from NBT to the joining network (once).
+     */
+    public int takePendingEnergy() {
+        int energy = pendingEnergy;
+        pendingEnergy = 0;
+        return energy;
     }
 
     public IEnergyStorage getEnergyStorage() {
-        return energyStorage;
+        return energyView;
     }
 
+    // ==================== Persistence ====================
+
     @Override
     public void loadAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
         super.loadAdditional(tag, provider);
         if (tag.contains("Energy")) {
-            energyStorage.setEnergy(tag.getInt("Energy"));
+            pendingEnergy = Math.max(0, tag.getInt("Energy"));
         }
     }
 
     @Override
     public void saveAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
         super.saveAdditional(tag, provider);
-        tag.putInt("Energy", energyStorage.getEnergyStored());
+        tag.putInt("Energy", network != null ? network.getShare(this) : pendingEnergy);
     }
 
     @Nullable
@@ -122,4 +146,43 @@ public class EnergyCableBlockEntity extends BlockEntity {
     public @NotNull CompoundTag getUpdateTag(@NotNull HolderLookup.Provider provider) {
         return saveWithoutMetadata(provider);
     }
+
+    // ==================== Capability View ====================
+
+    /**
+     * Exposes the shared network buffer through this cable, rate-limited to
+     * this cable's tier. Empty while the cable is not part of a network.
+     */
+    private final class CableEnergyView implements IEnergyStorage {
+
+        @Override
+        public int receiveEnergy(int maxReceive, boolean simulate) {
+            return network != null ? network.receive(maxReceive, transferRate, simulate) : 0;
+        }
+
+        @Override
+        public int extractEnergy(int maxExtract, boolean simulate) {
+            return network != null ? network.extract(maxExtract, transferRate, simulate) : 0;
+        }
+
+        @Override
+        public int getEnergyStored() {
+            return network != null ? (int) Math.min(Integer.MAX_VALUE, network.getStored()) : 0;
+        }
+
+        @Override
+        public int getMaxEnergyStored() {
+            return network != null ? (int) Math.min(Integer.MAX_VALUE, network.getCapacity()) : 0;
+        }
+
+        @Override
+        public boolean canExtract() {
+            return network != null;
+        }
+
+        @Override
+        public boolean canReceive() {
+            return network != null;
+        }
+    }
 }
@@ -7,13 +7,16 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.nicotfpn.alientech.Config;
-import net.nicotfpn.alientech.entropy.EntropyTransaction;
 import net.nicotfpn.alientech.entropy.IEntropyHandler;
-import net.nicotfpn.alientech.util.AlienTechDebug;
-import net.nicotfpn.alientech.util.CapabilityUtils;
+import net.nicotfpn.alientech.entropy.ModCapabilities;
+import net.nicotfpn.alientech.machine.core.capability.CapabilityCacheManager;
+import net.nicotfpn.alientech.network.cable.CableNetwork;
+import net.nicotfpn.alientech.network.cable.CableNetworkManager;
+import net.nicotfpn.alientech.network.cable.EntropyCableNetwork;
+import net.nicotfpn.alientech.network.cable.NetworkedCable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -22,124 +25,71 @@ import org.jetbrains.annotations.Nullable;
  * <p>
  * Does NOT store entropy internally. Acts purely as a conduit.
  * <p>
- * Transfer algorithm (per tick):
- * <ol>
- * <li>For each direction, check if neighbor has IEntropyHandler capability</li>
- * <li>Identify sources (canExtract) and destinations (canInsert)</li>
- * <li>Pull from sources and push to destinations, respecting transfer rate</li>
- * <li>Balance entropy flow between connected handlers</li>
- * </ol>
+ * Cables do not tick. Connected cables form an {@link EntropyCableNetwork}
+ * that tracks producer and consumer endpoints and performs one batched
+ * source-to-sink distribution per network tick.
  * <p>
  * Capability-only interaction — no hardcoded machine references.
  */
-public class EntropyCableBlockEntity extends BlockEntity {
+public class EntropyCableBlockEntity extends BlockEntity implements NetworkedCable {
+
+    @Nullable
+    private EntropyCableNetwork network;
+    @Nullable
+    private CapabilityCacheManager<IEntropyHandler, Direction> neighborEntropy;
 
     public EntropyCableBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.ENTROPY_CABLE_BE.get(), pos, state);
     }
 
-    // ==================== Tick Logic ====================
-
-    /**
-     * Called every server tick by the block's ticker.
-     * Transfers entropy between adjacent IEntropyHandler blocks using
-     * transaction-safe logic.
-     * <p>
-     * Deterministic behavior: processes directions in enum order, prevents
-     * double-transfer.
-     * Throttled to run every TICK_INTERVAL ticks for performance. Transfer rate is
-     * scaled proportionally to maintain the same throughput per second.
-     */
-    private static final int TICK_INTERVAL = 5;
-    private int tickCount = 0;
+    // ==================== Network Membership ====================
 
-    public void serverTick() {
-        tickCount++;
-
-        if (!CapabilityUtils.isValidServerLevel(level)) {
-            return;
-        }
-
-        // Throttle: only process every TICK_INTERVAL ticks
-        if (tickCount % TICK_INTERVAL != 0) {
-            return;
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level instanceof ServerLevel serverLevel) {
+            // Neighbour changes flag the network's endpoint list instead of being polled
+            this.neighborEntropy = new CapabilityCacheManager<>(ModCapabilities.ENTROPY, serverLevel,
+                    worldPosition, () -> {
+                        if (network != null)
+                            network.markEndpointsDirty();
+                    });
+            CableNetworkManager.get(serverLevel).onCableLoaded(this, EntropyCableNetwork::new);
         }
+    }
 
-        // Scale transfer rate proportionally to maintain throughput
-        int baseRate = Config.ENTROPY_CABLE_TRANSFER_RATE.get();
-        int transferRate = baseRate * TICK_INTERVAL;
-        if (transferRate <= 0) {
-            return; // Invalid config
+    @Override
+    public void setRemoved() {
+        if (level instanceof ServerLevel serverLevel) {
+            CableNetworkManager.get(serverLevel).onCableRemoved(this);
         }
-
-        // Process each source-destination pair deterministically
-        // Order: iterate directions in enum order (deterministic)
-        for (Direction sourceDir : Direction.values()) {
-            IEntropyHandler source = safeGetNeighborHandler(sourceDir);
-            if (source == null || !source.canExtract()) {
-                continue;
-            }
-
-            // Try to push to each destination
-            for (Direction destDir : Direction.values()) {
-                if (destDir == sourceDir) {
-                    continue; // Skip same direction
-                }
-
-                IEntropyHandler dest = safeGetNeighborHandler(destDir);
-                if (dest == null || !dest.canInsert()) {
-                    continue;
-                }
-
-                // Use transaction-safe transfer
-                EntropyTransaction transaction = EntropyTransaction.transfer(source, dest, transferRate);
-                if (transaction.isCommitted()) {
-                    long amount = transaction.getAmount();
-                    AlienTechDebug.ENTROPY.log("Cable transferred {} entropy from {} to {}",
-                            amount, sourceDir, destDir);
-                    // Transfer succeeded - continue to next destination
-                    // Note: source may now be empty, but we continue checking other destinations
-                    // This allows one source to feed multiple destinations in one tick
-                }
-                // If transaction failed, continue to next destination
-            }
+        if (neighborEntropy != null) {
+            neighborEntropy.invalidateAll();
+            neighborEntropy = null;
         }
-    }
-
-    /**
-     * Validate cable state (stateless, so this is a no-op but kept for
-     * consistency).
-     */
-    public void validateState() {
-        // Entropy cables are stateless - nothing to validate
+        super.setRemoved();
     }
 
     @Override
-    public void setRemoved() {
-        super.setRemoved();
-        // Clean up any cached references (none currently, but good practice)
+    @Nullable
+    public CableNetwork<?> getNetwork() {
+        return network;
     }
 
     @Override
-    public void onLoad() {
-        super.onLoad();
-        // Validate state on load
-        validateState();
+    public void setNetwork(@Nullable CableNetwork<?> network) {
+        this.network = (EntropyCableNetwork) network;
     }
 
     /**
-     * Safely get the IEntropyHandler capability from a neighbor in the given
-     * direction.
+     * Cached neighbour entropy handler on the given face (network use only).
      *
      * @param dir direction to check (must not be null)
-     * @return the handler, or null if not present or invalid
+     * @return the handler, or null if not present
      */
     @Nullable
-    private IEntropyHandler safeGetNeighborHandler(Direction dir) {
-        if (dir == null) {
-            return null;
-        }
-        return CapabilityUtils.safeGetNeighborEntropyHandler(level, worldPosition, dir);
+    public IEntropyHandler getNeighborEntropy(Direction dir) {
+        return neighborEntropy != null ? neighborEntropy.getCapability(dir) : null;
     }
 
     // ==================== Persistence (no-op, stateless) ====================
@@ -8,9 +8,8 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.block.state.BlockState;
+import net.nicotfpn.alientech.BakedConfig;
 import net.nicotfpn.alientech.Config;
 import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
 import net.nicotfpn.alientech.machine.core.component.EnergyComponent;
@@ -21,16 +20,14 @@ import net.nicotfpn.alientech.machine.core.component.SideConfigComponent;
 import net.nicotfpn.alientech.machine.core.component.AutoTransferComponent;
 import net.nicotfpn.alientech.pyramid.PyramidNetwork;
 import net.nicotfpn.alientech.pyramid.PyramidTier;
-import net.nicotfpn.alientech.recipe.ModRecipes;
 import net.nicotfpn.alientech.recipe.PrimalCatalystRecipe;
+import net.nicotfpn.alientech.recipe.PrimalCatalystRecipeIndex;
 import net.nicotfpn.alientech.recipe.PrimalCatalystRecipeInput;
 import net.nicotfpn.alientech.screen.PrimalCatalystMenu;
 import net.nicotfpn.alientech.util.SafeNBT;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Optional;
-
 /**
  * Primal Catalyst — A 3-input processing machine driven by Entropy.
  * <p>
@@ -61,6 +58,9 @@ public class PrimalCatalystBlockEntity extends AlienMachineBlockEntity implement
     // ==================== Recipe Cache ====================
     private PrimalCatalystRecipe cachedRecipe = null;
     private boolean recipeCacheDirty = true;
+    private int recipeGeneration = -1;
+    // Assinatura (item + componentes) das entradas usadas no último lookup
+    private final ItemStack[] recipeSignature = { ItemStack.EMPTY, ItemStack.EMPTY, ItemStack.EMPTY };
 
     // ==================== Constructor ====================
 
@@ -72,9 +72,9 @@ public class PrimalCatalystBlockEntity extends AlienMachineBlockEntity implement
             public void save(net.minecraft.nbt.CompoundTag tag, net.minecraft.core.HolderLookup.Provider provider) {
                 super.save(tag, provider);
             }
-            // onContentsChanged in ItemStackHandler already calls tile.setChanged()
-            // We piggyback by checking recipeCacheDirty on each canProcess() call
+            // onContentsChanged in ItemStackHandler already calls tile.markDirty()
         };
+        this.inventoryComponent.setContentsListener(this::onSlotChanged);
         registerComponent(this.inventoryComponent);
 
         this.energyComponent = new EnergyComponent(this,
@@ -85,8 +85,10 @@ public class PrimalCatalystBlockEntity extends AlienMachineBlockEntity implement
         registerComponent(this.entropyComponent);
 
         this.processingComponent = new ProcessingComponent(this,
-                () -> Config.PRIMAL_CATALYST_PROCESS_TIME.get(),
+                () -> BakedConfig.get().primalCatalystProcessTime(),
                 this::onProcessComplete);
+        // Com progresso sobrando (speed > 1), encadeia crafts no mesmo tick enquanto houver insumos
+        this.processingComponent.setRepeatCondition(this::canProcess);
         registerComponent(this.processingComponent);
 
         this.sideConfig = new SideConfigComponent(this);
@@ -115,7 +117,7 @@ public class PrimalCatalystBlockEntity extends AlienMachineBlockEntity implement
         // Pull entropy from PyramidNetwork every tick if we have space
         long space = entropyComponent.getMaxEntropy() - entropyComponent.getEntropyStored();
         if (space > 0) {
-            long cap = (long) Config.ENTROPY_CABLE_TRANSFER_RATE.get();
+            long cap = (long) BakedConfig.get().entropyCableTransferRate();
             long pulled = PyramidNetwork.get(level).extractEntropy(Math.min(space, cap), false);
             if (pulled > 0)
                 entropyComponent.addEntropy(pulled);
@@ -126,8 +128,19 @@ public class PrimalCatalystBlockEntity extends AlienMachineBlockEntity implement
         processingComponent.setWorking(canWork);
 
         super.tickServer(); // Ticks ProcessingComponent (advances progress)
+        // Persistência: componentes marcam a máquina apenas quando algo muda
+    }
 
-        setChanged();
+    /**
+     * No inputs and no recipe in progress: wakes on inventory change.
+     */
+    @Override
+    protected boolean isIdle() {
+        return !processingComponent.isWorking()
+                && inventoryComponent.getHandler().getStackInSlot(INPUT_SLOT_1).isEmpty()
+                && inventoryComponent.getHandler().getStackInSlot(INPUT_SLOT_2).isEmpty()
+                && inventoryComponent.getHandler().getStackInSlot(INPUT_SLOT_3).isEmpty()
+                && !hasActiveComponents();
     }
 
     private boolean canProcess() {
@@ -135,7 +148,7 @@ public class PrimalCatalystBlockEntity extends AlienMachineBlockEntity implement
             return false;
 
         // Check entropy
-        long entropyPerTick = Config.PRIMAL_CATALYST_ENERGY_PER_TICK.get();
+        long entropyPerTick = BakedConfig.get().primalCatalystEnergyPerTick();
         if (entropyComponent.getEntropyStored() < entropyPerTick)
             return false;
 
@@ -144,8 +157,10 @@ public class PrimalCatalystBlockEntity extends AlienMachineBlockEntity implement
         if (tier == PyramidTier.NONE)
             return false;
 
-        if (recipeCacheDirty) {
+        // Reload de datapack troca os objetos de receita: refaz o lookup
+        if (recipeCacheDirty || recipeGeneration != PrimalCatalystRecipeIndex.generation()) {
             cachedRecipe = findRecipe();
+            recipeGeneration = PrimalCatalystRecipeIndex.generation();
             recipeCacheDirty = false;
         }
         if (cachedRecipe == null)
@@ -180,26 +195,40 @@ public class PrimalCatalystBlockEntity extends AlienMachineBlockEntity implement
         }
 
         // Consume entropy for this craft
-        long entropyPerTick = Config.PRIMAL_CATALYST_ENERGY_PER_TICK.get();
+        long entropyPerTick = BakedConfig.get().primalCatalystEnergyPerTick();
         entropyComponent.consumeEntropy(entropyPerTick);
 
-        recipeCacheDirty = true;
-        setChanged();
+        markDirty();
     }
 
     // ==================== Recipe Lookup ====================
 
+    /**
+     * Invalida o cache de receita só quando o item/componentes de uma entrada
+     * mudam — consumir 1 de uma pilha não força novo lookup.
+     */
+    private void onSlotChanged(int slot) {
+        if (slot > INPUT_SLOT_3 || recipeCacheDirty)
+            return;
+        ItemStack stack = inventoryComponent.getHandler().getStackInSlot(slot);
+        ItemStack signature = recipeSignature[slot];
+        if (stack.isEmpty() != signature.isEmpty()
+                || (!stack.isEmpty() && !ItemStack.isSameItemSameComponents(stack, signature))) {
+            recipeCacheDirty = true;
+        }
+    }
+
     private PrimalCatalystRecipe findRecipe() {
         if (level == null)
             return null;
+        for (int slot = INPUT_SLOT_1; slot <= INPUT_SLOT_3; slot++) {
+            recipeSignature[slot] = inventoryComponent.getHandler().getStackInSlot(slot).copyWithCount(1);
+        }
         PrimalCatalystRecipeInput input = new PrimalCatalystRecipeInput(
                 inventoryComponent.getHandler().getStackInSlot(INPUT_SLOT_1),
                 inventoryComponent.getHandler().getStackInSlot(INPUT_SLOT_2),
                 inventoryComponent.getHandler().getStackInSlot(INPUT_SLOT_3));
-        RecipeManager rm = level.getRecipeManager();
-        Optional<RecipeHolder<PrimalCatalystRecipe>> found = rm.getRecipeFor(ModRecipes.PRIMAL_CATALYST_TYPE.get(),
-                input, level);
-        return found.map(RecipeHolder::value).orElse(null);
+        return PrimalCatalystRecipeIndex.find(level, input);
     }
 
     // ==================== Component Accessors ====================
@@ -9,6 +9,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
+import net.nicotfpn.alientech.BakedConfig;
 import net.nicotfpn.alientech.Config;
 import net.nicotfpn.alientech.item.ModItems;
 import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
@@ -16,10 +17,9 @@ import net.nicotfpn.alientech.machine.core.component.EnergyComponent;
 import net.nicotfpn.alientech.machine.core.component.InventoryComponent;
 import net.nicotfpn.alientech.machine.core.component.SideConfigComponent;
 import net.nicotfpn.alientech.machine.core.component.AutoTransferComponent;
-import net.nicotfpn.alientech.machine.turbine.QuantumVacuumTurbineBlockEntity;
 import net.nicotfpn.alientech.pyramid.PyramidNetwork;
-import net.nicotfpn.alientech.pyramid.PyramidStructureValidator;
 import net.nicotfpn.alientech.pyramid.PyramidTier;
+import net.nicotfpn.alientech.pyramid.TurbineRegistry;
 import net.nicotfpn.alientech.screen.PyramidCoreMenu;
 import net.nicotfpn.alientech.util.SafeNBT;
 import net.nicotfpn.alientech.util.StateValidator;
@@ -121,7 +121,7 @@ public class PyramidCoreBlockEntity extends AlienMachineBlockEntity implements n
         // 1. Throttled Structure Validation & Boost Broadcast
         structureCheckCooldown--;
         if (structureCheckCooldown <= 0) {
-            structureCheckCooldown = Math.max(20, Config.PYRAMID_SCAN_INTERVAL.get());
+            structureCheckCooldown = Math.max(20, BakedConfig.get().pyramidScanInterval());
             updateStructure();
 
             if (pyramidTier != PyramidTier.NONE) {
@@ -136,7 +136,7 @@ public class PyramidCoreBlockEntity extends AlienMachineBlockEntity implements n
                     boolean hasBiomass = !biomassStack.isEmpty() && biomassStack.is(ModItems.ENTROPY_BIOMASS.get());
 
                     if (hasISA || hasBiomass) {
-                        int generation = Config.PYRAMID_CORE_GENERATION.get();
+                        int generation = BakedConfig.get().pyramidCoreGeneration();
                         if (generation > 0) {
                             PyramidNetwork.get(level).insertEntropy(generation, false);
                         }
@@ -162,25 +162,25 @@ public class PyramidCoreBlockEntity extends AlienMachineBlockEntity implements n
     }
 
     private void updateStructure() {
-        PyramidTier newTier = PyramidStructureValidator.validate(level, worldPosition);
+        // Cached by the network; only re-validated after a footprint block changes
+        PyramidTier newTier = PyramidNetwork.get(level).getCoreTier(worldPosition);
         if (newTier != pyramidTier) {
             pyramidTier = newTier;
             boostMultiplier = newTier.getMultiplier();
             structureValid = (newTier != PyramidTier.NONE);
-            setChanged();
+            markDirty();
             syncToClients();
         }
     }
 
+    /**
+     * Range query against the per-level {@link TurbineRegistry} — only touches
+     * turbines that are actually loaded, never scans block positions.
+     */
     private void broadcastBoostToTurbines() {
-        int range = pyramidTier.getScanRange();
-        BlockPos.betweenClosed(worldPosition.offset(-range, -range, -range), worldPosition.offset(range, range, range))
-                .forEach(pos -> {
-                    if (level.isLoaded(pos)
-                            && level.getBlockEntity(pos) instanceof QuantumVacuumTurbineBlockEntity turbine) {
-                        turbine.setPyramidBoostMultiplier(boostMultiplier);
-                    }
-                });
+        int range = BakedConfig.get().pyramidBoostRange();
+        TurbineRegistry.get(level).forEachInRange(worldPosition, range,
+                turbine -> turbine.setPyramidBoostMultiplier(boostMultiplier));
     }
 
     // ==================== Activation API ====================
@@ -188,7 +188,7 @@ public class PyramidCoreBlockEntity extends AlienMachineBlockEntity implements n
     public void setActive(boolean active) {
         if (this.isActive != active) {
             this.isActive = active;
-            setChanged();
+            markDirty();
             syncToClients();
         }
     }
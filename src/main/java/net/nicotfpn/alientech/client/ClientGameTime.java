@@ -0,0 +1,19 @@
+package net.nicotfpn.alientech.client;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.level.Level;
+
+/**
+ * Client-side game time for render paths that get no level (item bars,
+ * foil). Only load from client-dist code paths.
+ */
+public final class ClientGameTime {
+
+    private ClientGameTime() {
+    }
+
+    public static long get() {
+        Level level = Minecraft.getInstance().level;
+        return level != null ? level.getGameTime() : 0L;
+    }
+}
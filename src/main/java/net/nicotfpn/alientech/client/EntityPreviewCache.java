@@ -0,0 +1,82 @@
+package net.nicotfpn.alientech.client;
+
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.nicotfpn.alientech.item.data.StoredMob;
+import net.nicotfpn.alientech.util.EntityStorageUtil;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of display-only entities for captured mobs (Decay Chamber GUI,
+ * prison previews).
+ * <p>
+ * Keyed by entity type + {@link StoredMob#contentHash()}, so every display of
+ * the same mob shares one instance and a hit costs no NBT work. Entities are
+ * built from NBT once, on a miss. Failed reconstructions are cached as well.
+ * <p>
+ * Bounded to {@link #MAX_ENTRIES}; cleared when the client level changes or
+ * unloads (see {@code event.ClientCacheEvents}), since cached entities hold
+ * a reference to their level. Render thread only.
+ */
+public final class EntityPreviewCache {
+
+    private static final int MAX_ENTRIES = 32;
+
+    private record Key(EntityType<?> type, int contentHash) {
+    }
+
+    // Access-order LinkedHashMap = LRU
+    private static final Map<Key, LivingEntity> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, LivingEntity> eldest) {
+            if (size() <= MAX_ENTRIES)
+                return false;
+            if (eldest.getValue() != null)
+                eldest.getValue().discard();
+            return true;
+        }
+    };
+
+    @Nullable
+    private static Level cachedLevel = null;
+
+    private EntityPreviewCache() {
+    }
+
+    /**
+     * @return shared display entity for the mob, or null if it cannot be built
+     */
+    @Nullable
+    public static LivingEntity get(@Nullable Level level, @Nullable StoredMob mob) {
+        if (level == null || mob == null)
+            return null;
+        if (level != cachedLevel) {
+            clear();
+            cachedLevel = level;
+        }
+
+        Key key = new Key(mob.type(), mob.contentHash());
+        LivingEntity entity = CACHE.get(key);
+        if (entity == null && !CACHE.containsKey(key)) {
+            entity = EntityStorageUtil.reconstructEntity(level, mob);
+            CACHE.put(key, entity);
+        }
+        return entity;
+    }
+
+    /**
+     * Drop every cached entity (level change/unload).
+     */
+    public static void clear() {
+        for (LivingEntity entity : CACHE.values()) {
+            if (entity != null)
+                entity.discard();
+        }
+        CACHE.clear();
+        cachedLevel = null;
+    }
+}
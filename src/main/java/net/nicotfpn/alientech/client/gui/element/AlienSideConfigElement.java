@@ -125,7 +125,7 @@ public class AlienSideConfigElement extends AlienGuiElement {
             int y = getY() + relY;
             int size = 24;
 
-            SideConfigComponent config = machine.getComponent(SideConfigComponent.class);
+            SideConfigComponent config = machine.getComponent(SideConfigComponent.TYPE);
             IOSideMode mode = config.getMode(face, currentType);
             int color = mode.getColor();
 
@@ -158,7 +158,7 @@ public class AlienSideConfigElement extends AlienGuiElement {
             int size = 24;
 
             if (mouseX >= x && mouseX < x + size && mouseY >= y && mouseY < y + size) {
-                SideConfigComponent config = machine.getComponent(SideConfigComponent.class);
+                SideConfigComponent config = machine.getComponent(SideConfigComponent.TYPE);
                 IOSideMode currentMode = config.getMode(face, currentType);
                 IOSideMode nextMode;
 
@@ -0,0 +1,23 @@
+package net.nicotfpn.alientech.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+
+/**
+ * Root of the {@code /alientech} command tree. Operator-only (permission
+ * level 2); each subcommand lives in its own class.
+ */
+public final class AlienTechCommand {
+
+    private AlienTechCommand() {
+        // Static registration
+    }
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("alientech")
+                .requires(source -> source.hasPermission(2))
+                .then(MetricsCommand.build())
+                .then(ProfileCommand.build()));
+    }
+}
@@ -0,0 +1,146 @@
+package net.nicotfpn.alientech.command;
+
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.chat.Component;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.metrics.AlienMetrics;
+import net.nicotfpn.alientech.metrics.Counter;
+import net.nicotfpn.alientech.metrics.Gauge;
+import net.nicotfpn.alientech.metrics.Metric;
+import net.nicotfpn.alientech.metrics.MetricChannel;
+import net.nicotfpn.alientech.metrics.TimerHistogram;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code /alientech metrics} — runtime control of {@link AlienMetrics}.
+ * <ul>
+ * <li>{@code metrics} — channel states and current values</li>
+ * <li>{@code metrics enable|disable <channel|all>}</li>
+ * <li>{@code metrics reset}</li>
+ * <li>{@code metrics dump} — write JSON + CSV under
+ * {@code <gameDir>/alientech/metrics/}</li>
+ * </ul>
+ */
+public final class MetricsCommand {
+
+    private static final String ALL = "all";
+
+    private static final DynamicCommandExceptionType UNKNOWN_CHANNEL = new DynamicCommandExceptionType(
+            name -> Component.literal("Unknown metrics channel: " + name));
+
+    private MetricsCommand() {
+        // Static registration
+    }
+
+    static LiteralArgumentBuilder<CommandSourceStack> build() {
+        return Commands.literal("metrics")
+                .executes(ctx -> status(ctx.getSource()))
+                .then(Commands.literal("enable")
+                        .then(Commands.argument("channel", StringArgumentType.word())
+                                .suggests((ctx, builder) -> SharedSuggestionProvider.suggest(channelNames(), builder))
+                                .executes(ctx -> toggle(ctx, true))))
+                .then(Commands.literal("disable")
+                        .then(Commands.argument("channel", StringArgumentType.word())
+                                .suggests((ctx, builder) -> SharedSuggestionProvider.suggest(channelNames(), builder))
+                                .executes(ctx -> toggle(ctx, false))))
+                .then(Commands.literal("reset")
+                        .executes(ctx -> reset(ctx.getSource())))
+                .then(Commands.literal("dump")
+                        .executes(ctx -> dump(ctx.getSource())));
+    }
+
+    private static List<String> channelNames() {
+        List<String> names = new ArrayList<>();
+        names.add(ALL);
+        for (MetricChannel channel : MetricChannel.values()) {
+            names.add(channel.getSerializedName());
+        }
+        return names;
+    }
+
+    // ==================== Subcommands ====================
+
+    private static int toggle(CommandContext<CommandSourceStack> ctx, boolean enabled) throws CommandSyntaxException {
+        String name = StringArgumentType.getString(ctx, "channel").toLowerCase(Locale.ROOT);
+        int changed = 0;
+        if (ALL.equals(name)) {
+            for (MetricChannel channel : MetricChannel.values()) {
+                channel.setEnabled(enabled);
+                changed++;
+            }
+        } else {
+            MetricChannel channel = MetricChannel.byName(name);
+            if (channel == null)
+                throw UNKNOWN_CHANNEL.create(name);
+            channel.setEnabled(enabled);
+            changed = 1;
+        }
+        ctx.getSource().sendSuccess(() -> Component.literal(
+                "Metrics " + (enabled ? "enabled" : "disabled") + ": " + name), true);
+        return changed;
+    }
+
+    private static int reset(CommandSourceStack source) {
+        AlienMetrics.reset();
+        source.sendSuccess(() -> Component.literal("Metrics reset"), true);
+        return 1;
+    }
+
+    private static int dump(CommandSourceStack source) {
+        try {
+            Path file = AlienMetrics.dump();
+            source.sendSuccess(() -> Component.literal("Metrics written to " + file + " (+ .csv)"), true);
+            return 1;
+        } catch (IOException e) {
+            AlienTech.LOGGER.error("Failed to write metrics dump", e);
+            source.sendFailure(Component.literal("Failed to write metrics: " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    private static int status(CommandSourceStack source) {
+        StringBuilder channels = new StringBuilder("Channels:");
+        for (MetricChannel channel : MetricChannel.values()) {
+            channels.append(' ').append(channel.getSerializedName()).append(channel.isEnabled() ? "[on]" : "[off]");
+        }
+        source.sendSuccess(() -> Component.literal(channels.toString()), false);
+
+        int shown = 0;
+        for (Metric metric : AlienMetrics.getMetrics()) {
+            if (!metric.getChannel().isEnabled())
+                continue;
+            String line = format(metric);
+            source.sendSuccess(() -> Component.literal(line), false);
+            shown++;
+        }
+        if (shown == 0) {
+            source.sendSuccess(() -> Component.literal("No channel enabled — /alientech metrics enable <channel>"),
+                    false);
+        }
+        return shown;
+    }
+
+    private static String format(Metric metric) {
+        if (metric instanceof Counter counter)
+            return String.format(Locale.ROOT, "  %s = %d", metric.getName(), counter.get());
+        if (metric instanceof Gauge gauge)
+            return String.format(Locale.ROOT, "  %s = %d", metric.getName(), gauge.sample());
+        if (metric instanceof TimerHistogram timer)
+            return String.format(Locale.ROOT, "  %s: n=%d mean=%.3fms p95=%.3fms max=%.3fms", metric.getName(),
+                    timer.getCount(), timer.getMeanMillis(), timer.getPercentileMillis(0.95),
+                    timer.getMaxNanos() / 1_000_000.0);
+        return "  " + metric.getName();
+    }
+}
@@ -0,0 +1,117 @@
+package net.nicotfpn.alientech.command;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.chat.Component;
+import net.nicotfpn.alientech.metrics.TickProfiler;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code /alientech profile} — control and query the {@link TickProfiler}.
+ * <ul>
+ * <li>{@code profile start [windowSeconds] [sampleInterval]}</li>
+ * <li>{@code profile stop}</li>
+ * <li>{@code profile top <types|positions|chunks|components> [n]}</li>
+ * </ul>
+ */
+public final class ProfileCommand {
+
+    private static final int DEFAULT_WINDOW_SECONDS = 60;
+    private static final int DEFAULT_SAMPLE_INTERVAL = 1;
+    private static final int DEFAULT_TOP = 10;
+
+    private static final DynamicCommandExceptionType UNKNOWN_CATEGORY = new DynamicCommandExceptionType(
+            name -> Component.literal("Unknown profiler category: " + name));
+
+    private ProfileCommand() {
+        // Static registration
+    }
+
+    static LiteralArgumentBuilder<CommandSourceStack> build() {
+        return Commands.literal("profile")
+                .executes(ctx -> status(ctx.getSource()))
+                .then(Commands.literal("start")
+                        .executes(ctx -> start(ctx.getSource(), DEFAULT_WINDOW_SECONDS, DEFAULT_SAMPLE_INTERVAL))
+                        .then(Commands.argument("windowSeconds", IntegerArgumentType.integer(5, 3600))
+                                .executes(ctx -> start(ctx.getSource(),
+                                        IntegerArgumentType.getInteger(ctx, "windowSeconds"),
+                                        DEFAULT_SAMPLE_INTERVAL))
+                                .then(Commands.argument("sampleInterval", IntegerArgumentType.integer(1, 100))
+                                        .executes(ctx -> start(ctx.getSource(),
+                                                IntegerArgumentType.getInteger(ctx, "windowSeconds"),
+                                                IntegerArgumentType.getInteger(ctx, "sampleInterval"))))))
+                .then(Commands.literal("stop")
+                        .executes(ctx -> stop(ctx.getSource())))
+                .then(Commands.literal("top")
+                        .then(Commands.argument("category", StringArgumentType.word())
+                                .suggests((ctx, builder) -> SharedSuggestionProvider.suggest(categoryNames(), builder))
+                                .executes(ctx -> top(ctx.getSource(), StringArgumentType.getString(ctx, "category"),
+                                        DEFAULT_TOP))
+                                .then(Commands.argument("n", IntegerArgumentType.integer(1, 100))
+                                        .executes(ctx -> top(ctx.getSource(),
+                                                StringArgumentType.getString(ctx, "category"),
+                                                IntegerArgumentType.getInteger(ctx, "n"))))));
+    }
+
+    private static List<String> categoryNames() {
+        return Arrays.stream(TickProfiler.Category.values()).map(TickProfiler.Category::getSerializedName).toList();
+    }
+
+    // ==================== Subcommands ====================
+
+    private static int start(CommandSourceStack source, int windowSeconds, int sampleInterval) {
+        TickProfiler.start(windowSeconds, sampleInterval);
+        source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT,
+                "Profiler started: %ds window, sampling 1/%d ticks", TickProfiler.getWindowSeconds(),
+                TickProfiler.getSampleInterval())), true);
+        return 1;
+    }
+
+    private static int stop(CommandSourceStack source) {
+        TickProfiler.stop();
+        source.sendSuccess(() -> Component.literal("Profiler stopped (data kept for /alientech profile top)"), true);
+        return 1;
+    }
+
+    private static int status(CommandSourceStack source) {
+        String state = TickProfiler.isRunning()
+                ? String.format(Locale.ROOT, "running, %ds window, sampling 1/%d ticks, %d ticks covered",
+                        TickProfiler.getWindowSeconds(), TickProfiler.getSampleInterval(),
+                        TickProfiler.getCoveredTicks())
+                : "stopped";
+        source.sendSuccess(() -> Component.literal("Profiler " + state), false);
+        return TickProfiler.isRunning() ? 1 : 0;
+    }
+
+    private static int top(CommandSourceStack source, String name, int limit) throws CommandSyntaxException {
+        TickProfiler.Category category = null;
+        for (TickProfiler.Category c : TickProfiler.Category.values()) {
+            if (c.getSerializedName().equals(name.toLowerCase(Locale.ROOT)))
+                category = c;
+        }
+        if (category == null)
+            throw UNKNOWN_CATEGORY.create(name);
+
+        List<TickProfiler.Entry> entries = TickProfiler.top(category, limit);
+        long ticks = TickProfiler.getCoveredTicks();
+        String header = String.format(Locale.ROOT, "Top %d %s over %d ticks (ms/tick, samples):", entries.size(),
+                category.getSerializedName(), ticks);
+        source.sendSuccess(() -> Component.literal(header), false);
+        for (int i = 0; i < entries.size(); i++) {
+            TickProfiler.Entry entry = entries.get(i);
+            String line = String.format(Locale.ROOT, "%2d. %.4f  %s (%d)", i + 1, entry.millisPerTick(ticks),
+                    entry.label(), entry.samples());
+            source.sendSuccess(() -> Component.literal(line), false);
+        }
+        return entries.size();
+    }
+}
@@ -120,7 +120,9 @@ public class EntropyStorage implements IEntropyHandler {
             entropy -= toExtract;
             validateState();
             onChanged.run();
-            AlienTechDebug.ENTROPY.log("Extracted {} entropy (remaining: {}/{})", toExtract, entropy, capacity);
+            if (AlienTechDebug.ENTROPY.isEnabled()) {
+                AlienTechDebug.ENTROPY.log("Extracted {} entropy (remaining: {}/{})", toExtract, entropy, capacity);
+            }
         }
         return toExtract;
     }
@@ -1,5 +1,7 @@
 package net.nicotfpn.alientech.entropy;
 
+import net.nicotfpn.alientech.metrics.AlienMetrics;
+
 /**
  * Transaction-safe entropy transfer result.
  * <p>
@@ -93,9 +95,9 @@ public final class EntropyTransaction {
             if (inserted <= 0L) {
                 return failed();
             }
-            return committed(inserted);
         }
 
+        AlienMetrics.ENTROPY_MOVED.add(inserted);
         return committed(inserted);
     }
 }
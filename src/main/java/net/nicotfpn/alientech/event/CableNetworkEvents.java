@@ -0,0 +1,31 @@
+package net.nicotfpn.alientech.event;
+
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.network.cable.CableNetworkManager;
+
+/**
+ * Drives every cable network once per level tick — cables themselves never
+ * tick.
+ */
+@EventBusSubscriber(modid = AlienTech.MOD_ID)
+public class CableNetworkEvents {
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            CableNetworkManager.get(serverLevel).tick();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            CableNetworkManager.remove(serverLevel);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package net.nicotfpn.alientech.event;
+
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.client.EntityPreviewCache;
+
+/**
+ * Drops client-side caches that hold level references.
+ */
+@EventBusSubscriber(modid = AlienTech.MOD_ID, bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class ClientCacheEvents {
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide())
+            EntityPreviewCache.clear();
+    }
+}
@@ -0,0 +1,19 @@
+package net.nicotfpn.alientech.event;
+
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.command.AlienTechCommand;
+
+/**
+ * Registers the {@code /alientech} command tree.
+ */
+@EventBusSubscriber(modid = AlienTech.MOD_ID)
+public class CommandEvents {
+
+    @SubscribeEvent
+    public static void onRegisterCommands(RegisterCommandsEvent event) {
+        AlienTechCommand.register(event.getDispatcher());
+    }
+}
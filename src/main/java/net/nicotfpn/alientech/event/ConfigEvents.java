@@ -0,0 +1,34 @@
+package net.nicotfpn.alientech.event;
+
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.fml.event.config.ModConfigEvent;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.BakedConfig;
+import net.nicotfpn.alientech.Config;
+
+/**
+ * Re-bakes {@link BakedConfig} whenever the server config is loaded or
+ * edited on disk.
+ */
+@EventBusSubscriber(modid = AlienTech.MOD_ID, bus = EventBusSubscriber.Bus.MOD)
+public class ConfigEvents {
+
+    @SubscribeEvent
+    public static void onConfigLoading(ModConfigEvent.Loading event) {
+        if (event.getConfig().getSpec() == Config.SERVER_SPEC)
+            BakedConfig.rebuild();
+    }
+
+    @SubscribeEvent
+    public static void onConfigReloading(ModConfigEvent.Reloading event) {
+        if (event.getConfig().getSpec() == Config.SERVER_SPEC)
+            BakedConfig.rebuild();
+    }
+
+    @SubscribeEvent
+    public static void onConfigUnloading(ModConfigEvent.Unloading event) {
+        if (event.getConfig().getSpec() == Config.SERVER_SPEC)
+            BakedConfig.invalidate();
+    }
+}
@@ -0,0 +1,39 @@
+package net.nicotfpn.alientech.event;
+
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.machine.core.MachineTickScheduler;
+
+/**
+ * Drives the {@link MachineTickScheduler} once per level tick and wakes
+ * sleeping machines next to changed blocks.
+ */
+@EventBusSubscriber(modid = AlienTech.MOD_ID)
+public class MachineTickEvents {
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            MachineTickScheduler.get(serverLevel).tick();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            MachineTickScheduler.get(serverLevel).onNeighborChanged(event.getPos(), event.getNotifiedSides());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            MachineTickScheduler.remove(serverLevel);
+        }
+    }
+}
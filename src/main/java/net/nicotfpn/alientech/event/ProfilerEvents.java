@@ -0,0 +1,19 @@
+package net.nicotfpn.alientech.event;
+
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.metrics.TickProfiler;
+
+/**
+ * Advances the {@link TickProfiler} window before any level ticks.
+ */
+@EventBusSubscriber(modid = AlienTech.MOD_ID)
+public class ProfilerEvents {
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Pre event) {
+        TickProfiler.onServerTick(event.getServer().getTickCount());
+    }
+}
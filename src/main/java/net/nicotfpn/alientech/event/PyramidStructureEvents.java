@@ -0,0 +1,60 @@
+package net.nicotfpn.alientech.event;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.pyramid.PyramidNetwork;
+
+/**
+ * Invalidates the cached pyramid tiers held by {@link PyramidNetwork} when a
+ * block inside a registered pyramid footprint changes.
+ * <p>
+ * PERFORMANCE: Each hook is a bounds check per registered core — structure
+ * validation itself only runs lazily on the next tier query.
+ */
+@EventBusSubscriber(modid = AlienTech.MOD_ID)
+public class PyramidStructureEvents {
+
+    @SubscribeEvent
+    public static void onBlockPlaced(BlockEvent.EntityPlaceEvent event) {
+        invalidate(event.getLevel(), event.getPos());
+    }
+
+    @SubscribeEvent
+    public static void onBlockBroken(BlockEvent.BreakEvent event) {
+        invalidate(event.getLevel(), event.getPos());
+    }
+
+    /**
+     * Catch-all for changes that are not player place/break (pistons,
+     * explosions, fluids, commands) — fires after the new state is set.
+     */
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        invalidate(event.getLevel(), event.getPos());
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        if (!(event.getLevel() instanceof Level level) || level.isClientSide())
+            return;
+        PyramidNetwork network = PyramidNetwork.getIfPresent(level);
+        if (network != null) {
+            network.invalidateChunk(event.getChunk().getPos().x, event.getChunk().getPos().z);
+        }
+    }
+
+    private static void invalidate(LevelAccessor accessor, BlockPos pos) {
+        if (!(accessor instanceof Level level) || level.isClientSide())
+            return;
+        PyramidNetwork network = PyramidNetwork.getIfPresent(level);
+        if (network != null) {
+            network.invalidateAt(pos);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package net.nicotfpn.alientech.event;
+
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.OnDatapackSyncEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.machine.decay.CapturedMob;
+import net.nicotfpn.alientech.recipe.PrimalCatalystRecipeIndex;
+
+/**
+ * Drops recipe indexes and tag-derived verdicts after a datapack reload so
+ * they are rebuilt from the new data on next use.
+ */
+@EventBusSubscriber(modid = AlienTech.MOD_ID)
+public class RecipeEvents {
+
+    @SubscribeEvent
+    public static void onDatapackSync(OnDatapackSyncEvent event) {
+        // Null player = full reload (not a single player joining)
+        if (event.getPlayer() == null) {
+            PrimalCatalystRecipeIndex.invalidate();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        CapturedMob.onTagsReloaded();
+    }
+}
@@ -1,9 +1,11 @@
 package net.nicotfpn.alientech.item.custom;
 
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
+import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.energy.IEnergyStorage;
 
@@ -21,6 +23,15 @@ public class ActivatedEyeOfHorusItem extends Item {
         super(properties);
     }
 
+    /**
+     * Legacy stacks (CustomData "Energy") move to the typed component server-side.
+     */
+    @Override
+    public void inventoryTick(ItemStack stack, Level level, Entity entity, int slotId, boolean isSelected) {
+        if (!level.isClientSide())
+            ItemEnergyStorage.migrateLegacy(stack);
+    }
+
     /**
      * Custom bar color (golden/orange for energy)
      */
@@ -10,6 +10,9 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.level.Level;
+import net.neoforged.fml.loading.FMLEnvironment;
+import net.nicotfpn.alientech.client.ClientGameTime;
+import net.nicotfpn.alientech.item.data.ModDataComponents;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
@@ -17,16 +20,19 @@ import java.util.List;
 /**
  * Decaying Graviton — an unstable graviton that degrades over time.
  * <p>
- * When held in a player's inventory, a DecayTimer ticks down.
- * When the timer reaches zero, the item is consumed (destroyed).
+ * The first time it sits in an inventory it is stamped with an absolute
+ * game-time deadline ({@link ModDataComponents#DECAY_DEADLINE}). Remaining
+ * time is derived from the deadline on read, so the stack is written only
+ * twice: on stamping and on expiry (destroyed).
  * Use it in a Quantum Vacuum Turbine before it decays!
  * <p>
- * NBT: DecayTimer (int) stored via DataComponents.CUSTOM_DATA.
+ * Legacy stacks with a CustomData DecayTimer are converted to a deadline on
+ * their next inventory tick.
  * Default lifetime: 6000 ticks (5 minutes).
  */
 public class DecayingGravitonItem extends Item {
 
-    private static final String KEY_DECAY_TIMER = "DecayTimer";
+    private static final String LEGACY_KEY_DECAY_TIMER = "DecayTimer";
     public static final int DEFAULT_LIFETIME = 6000; // 5 minutes at 20 tps
 
     public DecayingGravitonItem(Properties properties) {
@@ -39,43 +45,65 @@ public class DecayingGravitonItem extends Item {
         if (level.isClientSide())
             return;
 
-        int timer = getDecayTimer(stack);
+        long gameTime = level.getGameTime();
+        Long deadline = stack.get(ModDataComponents.DECAY_DEADLINE.get());
 
-        // Initialize timer on first tick
-        if (timer <= 0 && !hasDecayTimer(stack)) {
-            setDecayTimer(stack, DEFAULT_LIFETIME);
+        // Stamp the deadline on first tick (single write)
+        if (deadline == null) {
+            stack.set(ModDataComponents.DECAY_DEADLINE.get(), gameTime + takeLegacyTimer(stack));
             return;
         }
 
-        // Tick down
-        if (timer > 0) {
-            setDecayTimer(stack, timer - 1);
-        } else {
+        if (gameTime >= deadline) {
             // Decay complete — destroy item
             stack.shrink(stack.getCount());
         }
     }
 
-    // ==================== NBT Helpers ====================
+    // ==================== Deadline Helpers ====================
 
-    private static boolean hasDecayTimer(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null)
-            return false;
-        return customData.copyTag().contains(KEY_DECAY_TIMER);
+    private static boolean hasDeadline(ItemStack stack) {
+        return stack.has(ModDataComponents.DECAY_DEADLINE.get());
     }
 
-    public static int getDecayTimer(ItemStack stack) {
+    /**
+     * @return ticks left before decay at the given game time; 0 if expired or
+     *         not yet stamped
+     */
+    public static long getRemainingTicks(ItemStack stack, long gameTime) {
+        Long deadline = stack.get(ModDataComponents.DECAY_DEADLINE.get());
+        if (deadline == null)
+            return 0L;
+        return Math.max(0L, deadline - gameTime);
+    }
+
+    /**
+     * Removes the legacy CustomData DecayTimer and returns its value, or the
+     * default lifetime if the stack had none.
+     */
+    private static int takeLegacyTimer(ItemStack stack) {
         CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null)
-            return 0;
-        return customData.copyTag().getInt(KEY_DECAY_TIMER);
+        if (customData == null || !customData.contains(LEGACY_KEY_DECAY_TIMER))
+            return DEFAULT_LIFETIME;
+
+        CompoundTag tag = customData.copyTag();
+        int timer = Math.max(0, tag.getInt(LEGACY_KEY_DECAY_TIMER));
+        tag.remove(LEGACY_KEY_DECAY_TIMER);
+        if (tag.isEmpty()) {
+            stack.remove(DataComponents.CUSTOM_DATA);
+        } else {
+            stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        }
+        return timer;
     }
 
-    private static void setDecayTimer(ItemStack stack, int value) {
-        CompoundTag tag = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY).copyTag();
-        tag.putInt(KEY_DECAY_TIMER, value);
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+    /**
+     * Remaining ticks for render paths, which get no level.
+     */
+    private static long getClientRemainingTicks(ItemStack stack) {
+        if (!FMLEnvironment.dist.isClient())
+            return 0L;
+        return getRemainingTicks(stack, ClientGameTime.get());
     }
 
     // ==================== Visual Feedback ====================
@@ -83,24 +111,23 @@ public class DecayingGravitonItem extends Item {
     @Override
     public boolean isFoil(@NotNull ItemStack stack) {
         // Glimmer effect that fades as item decays
-        int timer = getDecayTimer(stack);
-        return timer > DEFAULT_LIFETIME / 2;
+        return getClientRemainingTicks(stack) > DEFAULT_LIFETIME / 2;
     }
 
     @Override
     public boolean isBarVisible(@NotNull ItemStack stack) {
-        return hasDecayTimer(stack);
+        return hasDeadline(stack);
     }
 
     @Override
     public int getBarWidth(@NotNull ItemStack stack) {
-        int timer = getDecayTimer(stack);
+        long timer = Math.min(DEFAULT_LIFETIME, getClientRemainingTicks(stack));
         return Math.round(13.0F * timer / DEFAULT_LIFETIME);
     }
 
     @Override
     public int getBarColor(@NotNull ItemStack stack) {
-        float ratio = (float) getDecayTimer(stack) / DEFAULT_LIFETIME;
+        float ratio = (float) getClientRemainingTicks(stack) / DEFAULT_LIFETIME;
         // Green → Yellow → Red gradient as decay progresses
         if (ratio > 0.5f)
             return 0x00FF00; // Green
@@ -113,9 +140,11 @@ public class DecayingGravitonItem extends Item {
     public void appendHoverText(@NotNull ItemStack stack, @NotNull TooltipContext context,
             @NotNull List<Component> tooltip, @NotNull TooltipFlag flag) {
         super.appendHoverText(stack, context, tooltip, flag);
-        int timer = getDecayTimer(stack);
+        Level level = context.level();
+        long timer = level != null ? getRemainingTicks(stack, level.getGameTime())
+                : getClientRemainingTicks(stack);
         if (timer > 0) {
-            int seconds = timer / 20;
+            long seconds = timer / 20;
             tooltip.add(Component.translatable("item.alientech.decaying_graviton.remaining",
                     String.format("%d:%02d", seconds / 60, seconds % 60))
                     .withStyle(ChatFormatting.RED));
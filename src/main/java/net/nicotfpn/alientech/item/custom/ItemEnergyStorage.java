@@ -5,22 +5,26 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.component.CustomData;
 import net.neoforged.neoforge.energy.IEnergyStorage;
+import net.nicotfpn.alientech.item.data.ModDataComponents;
 
 /**
- * Energy storage implementation for items using CustomData component.
- * Stores energy in the item's NBT data via DataComponents.
+ * Energy storage implementation for items using a typed data component.
+ * Stores energy in {@link ModDataComponents#STORED_ENERGY}.
  *
  * Robustness guarantees:
  * - Null-safe: Checks stack validity before any operation.
  * - Bounds-safe: Energy is always clamped to [0, capacity].
- * - Thread-safe reads: getStoredEnergy() creates a copy of the tag.
+ * - Cheap reads: the component holds an immutable Integer — no tag copies.
+ * - Legacy stacks: energy under the old CustomData "Energy" key is still read
+ * (read-only, safe on render paths) and moved to the component server-side,
+ * from inventoryTick or on the first write.
  */
 public class ItemEnergyStorage implements IEnergyStorage {
     private final ItemStack stack;
     private final int capacity;
     private final int maxReceive;
     private final int maxExtract;
-    private static final String ENERGY_KEY = "Energy";
+    private static final String LEGACY_ENERGY_KEY = "Energy";
 
     public ItemEnergyStorage(ItemStack stack, int capacity, int maxReceive, int maxExtract) {
         this.stack = stack;
@@ -29,24 +33,54 @@ public class ItemEnergyStorage implements IEnergyStorage {
         this.maxExtract = maxExtract;
     }
 
-    private int getStoredEnergy() {
+    /**
+     * Energy stored on a stack, without creating a storage wrapper. Used by
+     * render paths (durability bar, tooltip). Never modifies the stack.
+     */
+    public static int getEnergy(ItemStack stack) {
         if (stack.isEmpty())
             return 0;
+        Integer energy = stack.get(ModDataComponents.STORED_ENERGY.get());
+        if (energy != null)
+            return energy;
         CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData != null) {
-            return customData.copyTag().getInt(ENERGY_KEY);
+        if (customData == null || !customData.contains(LEGACY_ENERGY_KEY))
+            return 0;
+        return Math.max(0, customData.copyTag().getInt(LEGACY_ENERGY_KEY));
+    }
+
+    /**
+     * Moves energy from the legacy CustomData "Energy" key into the typed
+     * component. No-op once migrated; call server-side only.
+     */
+    public static void migrateLegacy(ItemStack stack) {
+        if (stack.isEmpty() || stack.has(ModDataComponents.STORED_ENERGY.get()))
+            return;
+        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
+        if (customData == null || !customData.contains(LEGACY_ENERGY_KEY))
+            return;
+
+        CompoundTag tag = customData.copyTag();
+        int energy = Math.max(0, tag.getInt(LEGACY_ENERGY_KEY));
+        tag.remove(LEGACY_ENERGY_KEY);
+        if (tag.isEmpty()) {
+            stack.remove(DataComponents.CUSTOM_DATA);
+        } else {
+            stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
         }
-        return 0;
+        stack.set(ModDataComponents.STORED_ENERGY.get(), energy);
+    }
+
+    private int getStoredEnergy() {
+        return Math.min(capacity, getEnergy(stack));
     }
 
     private void setStoredEnergy(int energy) {
         if (stack.isEmpty())
             return;
         int clamped = Math.max(0, Math.min(capacity, energy));
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-        tag.putInt(ENERGY_KEY, clamped);
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        migrateLegacy(stack); // Primeira escrita: descarta a chave legada
+        stack.set(ModDataComponents.STORED_ENERGY.get(), clamped);
     }
 
     @Override
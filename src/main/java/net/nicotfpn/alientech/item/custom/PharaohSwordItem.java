@@ -126,6 +126,10 @@ public class PharaohSwordItem extends SwordItem {
     @Override
     public void inventoryTick(@NotNull ItemStack stack, @NotNull Level level, @NotNull Entity entity, int slotId,
             boolean isSelected) {
+        // Espadas antigas (CustomData "Energy") migram para o componente no servidor
+        if (!level.isClientSide)
+            ItemEnergyStorage.migrateLegacy(stack);
+
         if (isSelected && entity instanceof Player player && !level.isClientSide) {
             // Spawn subtle golden particles when held
             if (level.random.nextFloat() < 0.1f && level instanceof ServerLevel serverLevel) {
@@ -143,15 +147,14 @@ public class PharaohSwordItem extends SwordItem {
     @Override
     public int getBarWidth(@NotNull ItemStack stack) {
         int maxEnergy = net.nicotfpn.alientech.Config.PHARAOH_SWORD_CAPACITY.get();
-        ItemEnergyStorage energyStorage = new ItemEnergyStorage(stack, maxEnergy, MAX_TRANSFER, MAX_TRANSFER);
-        return Math.round(13.0F * energyStorage.getEnergyStored() / (float) maxEnergy);
+        int stored = Math.min(maxEnergy, ItemEnergyStorage.getEnergy(stack));
+        return Math.round(13.0F * stored / (float) maxEnergy);
     }
 
     @Override
     public int getBarColor(@NotNull ItemStack stack) {
         int maxEnergy = net.nicotfpn.alientech.Config.PHARAOH_SWORD_CAPACITY.get();
-        ItemEnergyStorage energyStorage = new ItemEnergyStorage(stack, maxEnergy, MAX_TRANSFER, MAX_TRANSFER);
-        float ratio = energyStorage.getEnergyStored() / (float) maxEnergy;
+        float ratio = Math.min(maxEnergy, ItemEnergyStorage.getEnergy(stack)) / (float) maxEnergy;
 
         // Golden color gradient based on energy
         if (ratio > 0.5f) {
@@ -169,10 +172,10 @@ public class PharaohSwordItem extends SwordItem {
             @NotNull net.minecraft.world.item.TooltipFlag tooltipFlag) {
 
         int maxEnergy = net.nicotfpn.alientech.Config.PHARAOH_SWORD_CAPACITY.get();
-        ItemEnergyStorage energyStorage = new ItemEnergyStorage(stack, maxEnergy, MAX_TRANSFER, MAX_TRANSFER);
+        int stored = Math.min(maxEnergy, ItemEnergyStorage.getEnergy(stack));
 
         java.text.NumberFormat formatter = java.text.NumberFormat.getInstance(java.util.Locale.US);
-        String energyText = formatter.format(energyStorage.getEnergyStored()) + " / " + formatter.format(maxEnergy);
+        String energyText = formatter.format(stored) + " / " + formatter.format(maxEnergy);
 
         tooltipComponents.add(net.minecraft.network.chat.Component.literal("§7Stored Energy: §b" + energyText + " FE"));
         tooltipComponents.add(net.minecraft.network.chat.Component.empty()); // Spacer
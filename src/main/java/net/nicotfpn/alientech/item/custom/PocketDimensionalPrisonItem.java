@@ -6,6 +6,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
@@ -13,16 +14,19 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.item.context.UseOnContext;
 
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.nicotfpn.alientech.item.data.StoredMob;
 import net.nicotfpn.alientech.util.EntityStorageUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 
 /**
- * Pocket Dimensional Prison — Captures living mobs and stores them as NBT data.
+ * Pocket Dimensional Prison — Captures living mobs and stores them as a
+ * {@link StoredMob} component.
  * <p>
- * Right-click a mob: capture and store in item NBT.
+ * Right-click a mob: capture and store in the item.
  * Right-click a Decay Chamber Controller: transfer mob into chamber.
  * <p>
  * Uses {@link EntityStorageUtil} for all mob snapshot operations.
@@ -152,18 +156,17 @@ public class PocketDimensionalPrisonItem extends Item {
             @NotNull List<Component> tooltip, @NotNull TooltipFlag flag) {
         super.appendHoverText(stack, context, tooltip, flag);
 
-        if (EntityStorageUtil.hasStoredMob(stack)) {
-            String entityName = EntityStorageUtil.getStoredEntityName(stack);
-            float health = EntityStorageUtil.getStoredHealth(stack);
-
+        // Campos do componente: nenhuma cópia do NBT da entidade por frame
+        StoredMob stored = EntityStorageUtil.getStoredMob(stack);
+        if (stored != null) {
             tooltip.add(Component.literal("§d⛓ §7")
                     .append(Component.translatable("item.alientech.pocket_prison.contains",
-                            Component.literal(entityName != null ? entityName : "Unknown")
+                            stored.displayName().copy()
                                     .withStyle(ChatFormatting.WHITE, ChatFormatting.ITALIC))));
 
             tooltip.add(Component.literal("§c❤ §7")
                     .append(Component.translatable("item.alientech.pocket_prison.health",
-                            String.format("%.1f", health))
+                            String.format("%.1f", stored.health()))
                             .withStyle(ChatFormatting.GRAY)));
         } else {
             tooltip.add(Component.literal("§8∅ ")
@@ -174,6 +177,14 @@ public class PocketDimensionalPrisonItem extends Item {
 
     // ==================== Item Properties ====================
 
+    @Override
+    public void inventoryTick(@NotNull ItemStack stack, @NotNull Level level, @NotNull Entity entity,
+            int slotId, boolean isSelected) {
+        // Prisões antigas (CustomData) migram para o componente tipado no servidor
+        if (!level.isClientSide())
+            EntityStorageUtil.migrateLegacy(stack);
+    }
+
     @Override
     public boolean isFoil(@NotNull ItemStack stack) {
         // Enchantment glint when holding a mob
@@ -1,18 +1,46 @@
 package net.nicotfpn.alientech.item.data;
 
+import com.mojang.serialization.Codec;
 import net.minecraft.core.component.DataComponentType;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.util.ExtraCodecs;
+import net.neoforged.neoforge.registries.DeferredHolder;
 import net.neoforged.neoforge.registries.DeferredRegister;
 import net.nicotfpn.alientech.AlienTech;
 
 public final class ModDataComponents {
 
     // DeferredRegister central para todos os DataComponentTypes do mod
-    public static final DeferredRegister<DataComponentType<?>> REGISTRY = DeferredRegister.createDataComponents(
+    public static final DeferredRegister.DataComponents REGISTRY = DeferredRegister.createDataComponents(
             net.minecraft.core.registries.Registries.DATA_COMPONENT_TYPE,
             AlienTech.MOD_ID);
 
-    // Componentes concretos serão registrados como campos estáticos aqui
-    // nas fases seguintes (UpgradeData na Fase 2, PrisonData no futuro, etc.)
+    /**
+     * FE armazenado em itens energéticos (ItemEnergyStorage).
+     * Substitui a chave legada "Energy" em CustomData — leitura sem copyTag().
+     */
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<Integer>> STORED_ENERGY = REGISTRY
+            .registerComponentType("stored_energy", builder -> builder
+                    .persistent(ExtraCodecs.NON_NEGATIVE_INT)
+                    .networkSynchronized(ByteBufCodecs.VAR_INT));
+
+    /**
+     * Game time absoluto em que um Decaying Graviton se desintegra.
+     * Escrito uma vez na criação; o tempo restante é derivado na leitura.
+     */
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<Long>> DECAY_DEADLINE = REGISTRY
+            .registerComponentType("decay_deadline", builder -> builder
+                    .persistent(Codec.LONG)
+                    .networkSynchronized(ByteBufCodecs.VAR_LONG));
+
+    /**
+     * Mob capturado pela Pocket Dimensional Prison (tipo, nome, vida e NBT opaco).
+     * Substitui as chaves legadas StoredEntityType/StoredHealth/StoredNBT em CustomData.
+     */
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<StoredMob>> STORED_MOB = REGISTRY
+            .registerComponentType("stored_mob", builder -> builder
+                    .persistent(StoredMob.CODEC)
+                    .networkSynchronized(StoredMob.STREAM_CODEC));
 
     private ModDataComponents() {
     }
@@ -0,0 +1,118 @@
+package net.nicotfpn.alientech.item.data;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.ComponentSerialization;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+
+import java.util.Objects;
+
+/**
+ * Compact, immutable snapshot of a captured mob.
+ * <p>
+ * Type, display name, health and a content hash are held as plain fields, so
+ * tooltips, {@code isFoil} and "is there a mob?" checks never touch the entity
+ * NBT. The full entity compound is an opaque payload: it is never exposed
+ * directly, only copied by {@link #copyEntityData()} when the mob is actually
+ * released or rendered. Equality checks the hash before comparing payloads.
+ * <p>
+ * Used as the {@link ModDataComponents#STORED_MOB} item component and by the
+ * Decay Chamber controller.
+ */
+public final class StoredMob {
+
+    public static final Codec<StoredMob> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            BuiltInRegistries.ENTITY_TYPE.byNameCodec().fieldOf("type").forGetter(StoredMob::type),
+            ComponentSerialization.CODEC.fieldOf("name").forGetter(StoredMob::displayName),
+            Codec.FLOAT.fieldOf("health").forGetter(StoredMob::health),
+            CompoundTag.CODEC.fieldOf("data").forGetter(mob -> mob.entityData))
+            .apply(instance, StoredMob::new));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, StoredMob> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.registry(Registries.ENTITY_TYPE), StoredMob::type,
+            ComponentSerialization.STREAM_CODEC, StoredMob::displayName,
+            ByteBufCodecs.FLOAT, StoredMob::health,
+            ByteBufCodecs.COMPOUND_TAG, mob -> mob.entityData,
+            StoredMob::new);
+
+    private final EntityType<?> type;
+    private final Component displayName;
+    private final float health;
+    private final CompoundTag entityData; // never mutated nor handed out
+    private final int contentHash;
+
+    public StoredMob(EntityType<?> type, Component displayName, float health, CompoundTag entityData) {
+        this.type = Objects.requireNonNull(type);
+        this.displayName = Objects.requireNonNull(displayName);
+        this.health = health;
+        this.entityData = Objects.requireNonNull(entityData);
+        this.contentHash = entityData.hashCode();
+    }
+
+    /**
+     * Snapshot a living entity (server side). The entity is not removed.
+     */
+    public static StoredMob capture(LivingEntity entity) {
+        CompoundTag entityNbt = new CompoundTag();
+        entity.save(entityNbt);
+        return new StoredMob(entity.getType(), entity.getName(), entity.getHealth(), entityNbt);
+    }
+
+    public EntityType<?> type() {
+        return type;
+    }
+
+    public Component displayName() {
+        return displayName;
+    }
+
+    public float health() {
+        return health;
+    }
+
+    /**
+     * Hash of the entity payload, computed once. Cheap change detection for
+     * caches keyed on the mob (e.g. display entities).
+     */
+    public int contentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Decode the payload: a fresh copy of the entity NBT, safe to mutate.
+     */
+    public CompoundTag copyEntityData() {
+        return entityData.copy();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof StoredMob other))
+            return false;
+        return contentHash == other.contentHash
+                && type == other.type
+                && Float.compare(health, other.health) == 0
+                && displayName.equals(other.displayName)
+                && entityData.equals(other.entityData);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * contentHash + type.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "StoredMob[" + BuiltInRegistries.ENTITY_TYPE.getKey(type) + ", health=" + health + "]";
+    }
+}
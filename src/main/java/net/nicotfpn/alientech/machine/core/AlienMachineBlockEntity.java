@@ -3,10 +3,17 @@ package net.nicotfpn.alientech.machine.core;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.energy.IEnergyStorage;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.nicotfpn.alientech.entropy.IEntropyHandler;
+import net.nicotfpn.alientech.entropy.ModCapabilities;
 import net.nicotfpn.alientech.machine.core.component.AlienComponent;
+import net.nicotfpn.alientech.machine.core.component.ComponentType;
 
 import net.nicotfpn.alientech.machine.core.capability.CapabilityCacheManager;
 import net.nicotfpn.alientech.machine.core.component.TickableComponent;
@@ -17,23 +24,47 @@ import net.nicotfpn.alientech.network.sideconfig.SidedItemHandlerWrapper;
 import net.nicotfpn.alientech.machine.core.component.EnergyComponent;
 import net.nicotfpn.alientech.machine.core.component.InventoryComponent;
 import net.nicotfpn.alientech.machine.core.component.SideConfigComponent;
+import net.nicotfpn.alientech.metrics.AlienMetrics;
+import net.nicotfpn.alientech.metrics.TickProfiler;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public abstract class AlienMachineBlockEntity extends BlockEntity {
 
+    private static final int MAX_COMPONENTS = Long.SIZE;
+
+    // Ordem de registro = ordem de tick
     private final List<AlienComponent> components = new ArrayList<>();
-    protected final List<AlienComponent> activeComponents = new ArrayList<>(); // TPS Optimization
+    // Indexados por ComponentType.id(); orderByType guarda o índice em components (-1 = ausente)
+    private AlienComponent[] componentsByType = new AlienComponent[0];
+    private int[] orderByType = new int[0];
+    // Bit i = components.get(i) está no loop de tick (TPS Optimization)
+    private long activeMask = 0L;
     private final List<CapabilityCacheManager<?, ?>> capabilityCaches = new ArrayList<>();
-    private final Map<Class<? extends AlienComponent>, AlienComponent> componentRegistry = new HashMap<>();
 
     // Instanciados uma vez no construtor — nunca recriados
     private final SidedItemHandlerWrapper[] sidedItemHandlers = new SidedItemHandlerWrapper[6];
     private final SidedEnergyStorageWrapper[] sidedEnergyStorages = new SidedEnergyStorageWrapper[6];
 
+    // Caches de capabilities vizinhas — criados sob demanda, apenas no servidor
+    private CapabilityCacheManager<IEnergyStorage, Direction> neighborEnergy;
+    private CapabilityCacheManager<IItemHandler, Direction> neighborItems;
+    private CapabilityCacheManager<IEntropyHandler, Direction> neighborEntropy;
+
+    // Bookkeeping do MachineTickScheduler (server thread only)
+    MachineTickScheduler.Bucket scheduledBucket;
+    int scheduledIndex = -1;
+    MachineTickScheduler.Wheel scheduledWheel;
+    // Registro adiado até o fim da passada atual do scheduler
+    boolean pendingSchedule;
+    boolean sleeping;
+    private long scheduledTicks = 0;
+    // Persistência coalescida: true enquanto há um setChanged() pendente na fila do scheduler
+    private boolean changePending = false;
+
     public AlienMachineBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
         super(type, pos, state);
     }
@@ -61,9 +92,26 @@ public abstract class AlienMachineBlockEntity extends BlockEntity {
      * @return O próprio componente, para encadeamento fluente no construtor.
      */
     protected <T extends AlienComponent> T registerComponent(T component) {
+        int id = component.getComponentType().id();
+        if (id >= componentsByType.length) {
+            int size = Math.max(id + 1, ComponentType.count());
+            componentsByType = Arrays.copyOf(componentsByType, size);
+            int oldSize = orderByType.length;
+            orderByType = Arrays.copyOf(orderByType, size);
+            Arrays.fill(orderByType, oldSize, size, -1);
+        }
+        if (componentsByType[id] != null) {
+            throw new IllegalStateException("AlienTech: Componente " + component.getComponentType().type().getSimpleName()
+                    + " registrado duas vezes em " + this.getClass().getSimpleName());
+        }
+        if (components.size() >= MAX_COMPONENTS) {
+            throw new IllegalStateException("AlienTech: Máximo de " + MAX_COMPONENTS + " componentes por máquina");
+        }
+        int order = components.size();
         this.components.add(component);
-        this.componentRegistry.put(component.getClass(), component);
-        this.activeComponents.add(component);
+        this.componentsByType[id] = component;
+        this.orderByType[id] = order;
+        this.activeMask |= 1L << order;
         return component;
     }
 
@@ -74,8 +122,26 @@ public abstract class AlienMachineBlockEntity extends BlockEntity {
      * a NullPointerException silenciosa.
      */
     @SuppressWarnings("unchecked")
+    public <T extends AlienComponent> T getComponent(ComponentType<T> type) {
+        int id = type.id();
+        T component = id < componentsByType.length ? (T) componentsByType[id] : null;
+        if (component == null) {
+            throw new IllegalStateException(
+                    "AlienTech: Componente " + type.type().getSimpleName() +
+                            " não registrado em " + this.getClass().getSimpleName() +
+                            " @ " + worldPosition);
+        }
+        return component;
+    }
+
+    /**
+     * Variante por classe de {@link #getComponent(ComponentType)}; prefira a
+     * constante {@code TYPE} do componente.
+     */
+    @SuppressWarnings("unchecked")
     public <T extends AlienComponent> T getComponent(Class<T> type) {
-        T component = (T) componentRegistry.get(type);
+        int id = ComponentType.of(type).id();
+        T component = id < componentsByType.length ? (T) componentsByType[id] : null;
         if (component == null) {
             throw new IllegalStateException(
                     "AlienTech: Componente " + type.getSimpleName() +
@@ -86,13 +152,13 @@ public abstract class AlienMachineBlockEntity extends BlockEntity {
     }
 
     protected void initSidedWrappers() {
-        if (!hasComponent(SideConfigComponent.class))
+        if (!hasComponent(SideConfigComponent.TYPE))
             return;
-        SideConfigComponent sideConfig = getComponent(SideConfigComponent.class);
+        SideConfigComponent sideConfig = getComponent(SideConfigComponent.TYPE);
 
-        InventoryComponent inventory = hasComponent(InventoryComponent.class) ? getComponent(InventoryComponent.class)
+        InventoryComponent inventory = hasComponent(InventoryComponent.TYPE) ? getComponent(InventoryComponent.TYPE)
                 : null;
-        EnergyComponent energy = hasComponent(EnergyComponent.class) ? getComponent(EnergyComponent.class) : null;
+        EnergyComponent energy = hasComponent(EnergyComponent.TYPE) ? getComponent(EnergyComponent.TYPE) : null;
 
         for (Direction dir : Direction.values()) {
             if (inventory != null) {
@@ -115,19 +181,193 @@ public abstract class AlienMachineBlockEntity extends BlockEntity {
     /**
      * Retorna true se a máquina tiver o componente daquele tipo.
      */
+    public boolean hasComponent(ComponentType<?> type) {
+        int id = type.id();
+        return id < componentsByType.length && componentsByType[id] != null;
+    }
+
+    /**
+     * Retorna true se a máquina tiver o componente daquela classe.
+     */
     public boolean hasComponent(Class<? extends AlienComponent> type) {
-        return componentRegistry.containsKey(type);
+        return hasComponent(ComponentType.of(type));
     }
 
     /**
-     * Updates the active list when a component's idle state changes.
+     * Updates the active set when a component's idle state changes.
      * Usually called internally by the component itself.
      */
     public void updateActiveState(AlienComponent component) {
-        if (component.isActive() && !activeComponents.contains(component)) {
-            activeComponents.add(component);
-        } else if (!component.isActive()) {
-            activeComponents.remove(component);
+        int id = component.getComponentType().id();
+        if (id >= componentsByType.length || componentsByType[id] != component)
+            return;
+        long bit = 1L << orderByType[id];
+        if (component.isActive()) {
+            if ((activeMask & bit) == 0L) {
+                activeMask |= bit;
+                wakeUp(); // Newly active component needs ticks again
+            }
+        } else {
+            activeMask &= ~bit;
+        }
+    }
+
+    // ==================== Neighbour Capabilities ====================
+
+    /**
+     * FE handler of the neighbour on the given face, through a per-face
+     * {@link CapabilityCacheManager}. Null on the client or if absent.
+     */
+    @Nullable
+    public IEnergyStorage getNeighborEnergy(Direction dir) {
+        if (neighborEnergy == null) {
+            if (!(level instanceof ServerLevel serverLevel) || isRemoved())
+                return null;
+            neighborEnergy = new CapabilityCacheManager<>(Capabilities.EnergyStorage.BLOCK, serverLevel,
+                    worldPosition, this::wakeUp);
+        }
+        return neighborEnergy.getCapability(dir);
+    }
+
+    /**
+     * Item handler of the neighbour on the given face (cached, see
+     * {@link #getNeighborEnergy}).
+     */
+    @Nullable
+    public IItemHandler getNeighborItems(Direction dir) {
+        if (neighborItems == null) {
+            if (!(level instanceof ServerLevel serverLevel) || isRemoved())
+                return null;
+            neighborItems = new CapabilityCacheManager<>(Capabilities.ItemHandler.BLOCK, serverLevel,
+                    worldPosition, this::wakeUp);
+        }
+        return neighborItems.getCapability(dir);
+    }
+
+    /**
+     * Entropy handler of the neighbour on the given face (cached, see
+     * {@link #getNeighborEnergy}).
+     */
+    @Nullable
+    public IEntropyHandler getNeighborEntropy(Direction dir) {
+        if (neighborEntropy == null) {
+            if (!(level instanceof ServerLevel serverLevel) || isRemoved())
+                return null;
+            neighborEntropy = new CapabilityCacheManager<>(ModCapabilities.ENTROPY, serverLevel,
+                    worldPosition, this::wakeUp);
+        }
+        return neighborEntropy.getCapability(dir);
+    }
+
+    private void releaseNeighborCaches() {
+        if (neighborEnergy != null)
+            neighborEnergy.invalidateAll();
+        if (neighborItems != null)
+            neighborItems.invalidateAll();
+        if (neighborEntropy != null)
+            neighborEntropy.invalidateAll();
+        neighborEnergy = null;
+        neighborItems = null;
+        neighborEntropy = null;
+    }
+
+    // ==================== Scheduling ====================
+
+    /**
+     * Interval, in ticks, at which {@link MachineTickScheduler} runs this
+     * machine. Read once when the machine is put on the schedule.
+     * <p>
+     * Component intervals are counted in scheduled ticks, so they should be
+     * multiples of this value.
+     */
+    protected int getScheduledTickInterval() {
+        return 1;
+    }
+
+    /**
+     * Whether this machine has nothing to do until something external changes.
+     * Checked after every scheduled tick; an idle machine sleeps off the
+     * schedule until {@link #wakeUp()}.
+     * <p>
+     * Defaults to false: machines with their own per-tick logic must opt in.
+     */
+    protected boolean isIdle() {
+        return false;
+    }
+
+    /**
+     * @return true if any registered component still has work pending
+     */
+    protected boolean hasActiveComponents() {
+        for (long mask = activeMask; mask != 0L; mask &= mask - 1) {
+            if (components.get(Long.numberOfTrailingZeros(mask)).isActive())
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Put this machine back on the tick schedule if it was sleeping. Cheap to
+     * call from change callbacks (inventory, energy, neighbours).
+     */
+    public void wakeUp() {
+        if (sleeping && level instanceof ServerLevel serverLevel) {
+            MachineTickScheduler.get(serverLevel).wake(this);
+        }
+    }
+
+    /**
+     * @return true while this machine is off the schedule waiting for a wake-up
+     */
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    // ==================== Persistence ====================
+
+    /**
+     * Marca o estado persistente da máquina como alterado. Todas as chamadas no
+     * mesmo tick resultam em um único {@code setChanged()}, emitido pelo
+     * {@link MachineTickScheduler} no fim do tick do nível — evitando saves de
+     * chunk e atualizações de comparador a cada mutação.
+     * <p>
+     * Campos transitórios (timers de boost, flags recalculadas todo tick) não
+     * devem chamar este método.
+     */
+    public void markDirty() {
+        AlienMetrics.MACHINE_CHANGES_MARKED.increment();
+        if (changePending)
+            return;
+        if (level instanceof ServerLevel serverLevel && !isRemoved()) {
+            changePending = true;
+            MachineTickScheduler.get(serverLevel).queueChange(this);
+        } else {
+            // Cliente ou fora do mundo: nada a coalescer
+            setChanged();
+        }
+    }
+
+    /**
+     * Emits the coalesced {@code setChanged()} (scheduler use only).
+     */
+    final void flushChanges() {
+        if (!changePending)
+            return;
+        changePending = false;
+        if (!isRemoved()) {
+            setChanged();
+            AlienMetrics.MACHINE_CHANGES_FLUSHED.increment();
+        }
+    }
+
+    /**
+     * Entry point used by {@link MachineTickScheduler}.
+     */
+    final void runScheduledTick(MachineTickScheduler scheduler) {
+        scheduledTicks++;
+        tickServer();
+        if (!isRemoved() && isIdle()) {
+            scheduler.sleep(this);
         }
     }
 
@@ -135,58 +375,57 @@ public abstract class AlienMachineBlockEntity extends BlockEntity {
      * Loop principal do servidor. Executa apenas os componentes com trabalho
      * pendente.
      *
-     * IMPORTANTE: A ordem da lista activeComponents é significativa.
+     * IMPORTANTE: A ordem de registro dos componentes é significativa.
      * Ordem recomendada de registro no construtor da máquina:
      * 1. EnergyComponent (receber FE antes de processar)
      * 2. ProcessingComponent (consumir FE e processar)
      * 3. AutoTransferComponent (ejetar output após processamento)
      * 4. SideConfigComponent NÃO é tickable — apenas consultado pelos wrappers
+     * <p>
+     * Chamado pelo {@link MachineTickScheduler}; intervalos de componentes são
+     * contados em ticks agendados desta máquina, não em gameTime.
      */
     public void tickServer() {
-        if (activeComponents.isEmpty() || level == null)
+        if (activeMask == 0L || level == null)
             return; // Zero-cost idle tick!
 
         boolean dirty = false;
-        long gameTime = level.getGameTime(); // Schedule synchronization
+        int machineInterval = Math.max(1, getScheduledTickInterval());
+
+        // Snapshot: componentes podem mudar o próprio estado durante o tick
+        for (long mask = activeMask; mask != 0L; mask &= mask - 1) {
+            AlienComponent component = components.get(Long.numberOfTrailingZeros(mask));
+            if (!component.isActive())
+                continue;
+            int interval = component.getTickInterval();
+            if (interval > machineInterval && scheduledTicks % (interval / machineInterval) != 0)
+                continue;
 
-        for (AlienComponent component : activeComponents) {
+            long profiled = TickProfiler.begin();
             // Se for TickableComponent, honrar o contrato de isActive()
+            // (alterações persistentes são marcadas pelos próprios componentes)
             if (component instanceof TickableComponent tickable) {
-                if (tickable.isActive()) {
-                    if (gameTime % component.getTickInterval() == 0) {
-                        try {
-                            tickable.tick(this);
-                            dirty = true;
-                        } catch (Exception e) {
-                            net.nicotfpn.alientech.AlienTech.LOGGER
-                                    .error("Error ticking component: " + component.getClass().getSimpleName(), e);
-                        }
-                    }
+                try {
+                    tickable.tick(this);
+                } catch (Exception e) {
+                    net.nicotfpn.alientech.AlienTech.LOGGER
+                            .error("Error ticking component: " + component.getClass().getSimpleName(), e);
                 }
             } else {
                 // Legacy support code for components that haven't migrated to TickableComponent
                 // yet
-                if (component.isActive() && gameTime % component.getTickInterval() == 0) {
-                    if (component.tickServer()) {
-                        dirty = true;
-                    }
+                if (component.tickServer()) {
+                    dirty = true;
                 }
             }
+            TickProfiler.endComponent(component.getClass(), profiled);
         }
 
         if (dirty) {
-            setChanged();
+            markDirty();
         }
     }
 
-    /**
-     * Static wrapper required by Block Entity Tickers in Block subclasses.
-     */
-    public static void tickServer(net.minecraft.world.level.Level level, BlockPos pos, BlockState state,
-            AlienMachineBlockEntity be) {
-        be.tickServer();
-    }
-
     /**
      * Drops inventory components when the block is broken.
      */
@@ -234,10 +473,22 @@ public abstract class AlienMachineBlockEntity extends BlockEntity {
         }
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level instanceof ServerLevel serverLevel) {
+            MachineTickScheduler.get(serverLevel).register(this);
+        }
+    }
+
     // NeoForge 1.21.1 Capability Lifecycle
     @Override
     public void setRemoved() {
+        if (level instanceof ServerLevel serverLevel) {
+            MachineTickScheduler.get(serverLevel).unregister(this);
+        }
         super.setRemoved();
+        releaseNeighborCaches();
         for (CapabilityCacheManager<?, ?> cache : capabilityCaches) {
             cache.invalidateAll();
         }
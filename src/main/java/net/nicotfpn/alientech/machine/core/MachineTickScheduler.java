@@ -0,0 +1,347 @@
+package net.nicotfpn.alientech.machine.core;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.metrics.AlienMetrics;
+import net.nicotfpn.alientech.metrics.TickProfiler;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Per-level tick scheduler for every {@link AlienMachineBlockEntity}.
+ * <p>
+ * Machines are not ticked by vanilla block entity tickers. Each machine is
+ * placed in a bucket keyed by its tick interval and a phase
+ * ({@code gameTime % interval}); every level tick only the bucket that is due
+ * for each interval runs. New machines take the least-populated phase (live
+ * entries only), so machines sharing an interval are spread evenly across
+ * ticks. Each machine knows its index in its bucket, so leaving the schedule
+ * is O(1).
+ * <p>
+ * Registrations and wake-ups that happen while a pass is running are
+ * deferred until the pass ends: a machine woken by a neighbour later in the
+ * same pass never runs twice in one game tick.
+ * <p>
+ * A machine that reports itself idle after its tick is moved off the schedule
+ * ("sleeping") until {@link AlienMachineBlockEntity#wakeUp()} is called —
+ * inventory changes, energy received or extracted, component activation and
+ * neighbour block updates all do so.
+ * <p>
+ * It also coalesces {@link AlienMachineBlockEntity#markDirty()}: however many
+ * changes a machine reports during a level tick, it gets one
+ * {@code setChanged()} at the end of that tick.
+ * <p>
+ * Server thread only.
+ */
+public final class MachineTickScheduler {
+
+    private static final WeakHashMap<Level, MachineTickScheduler> INSTANCES = new WeakHashMap<>();
+
+    private final ServerLevel level;
+    // interval -> wheel; list kept alongside for allocation-free iteration
+    private final Map<Integer, Wheel> wheels = new HashMap<>();
+    private final List<Wheel> wheelList = new ArrayList<>();
+    // Sleeping machines by packed position, for neighbour-update wake-ups
+    private final Map<Long, AlienMachineBlockEntity> sleeping = new HashMap<>();
+
+    private boolean ticking = false;
+    private final List<Bucket> dirtyBuckets = new ArrayList<>();
+    // Registros pedidos durante a passada, aplicados depois dela
+    private final List<AlienMachineBlockEntity> pendingRegistrations = new ArrayList<>();
+    // Machines with persistent changes pending, flushed once at the end of the tick
+    private final List<AlienMachineBlockEntity> pendingChanges = new ArrayList<>();
+
+    private MachineTickScheduler(ServerLevel level) {
+        this.level = Objects.requireNonNull(level);
+    }
+
+    /**
+     * Obtain the scheduler for a given server level. Creates a single in-memory
+     * instance per-level.
+     */
+    public static MachineTickScheduler get(ServerLevel level) {
+        synchronized (INSTANCES) {
+            return INSTANCES.computeIfAbsent(level, l -> new MachineTickScheduler((ServerLevel) l));
+        }
+    }
+
+    /**
+     * Drop the scheduler of an unloading level.
+     */
+    public static void remove(Level level) {
+        synchronized (INSTANCES) {
+            INSTANCES.remove(level);
+        }
+    }
+
+    // ==================== Membership ====================
+
+    /**
+     * Put a machine on the schedule. No-op if it is already scheduled.
+     */
+    void register(AlienMachineBlockEntity machine) {
+        if (machine.scheduledBucket != null || machine.pendingSchedule)
+            return;
+        sleeping.remove(machine.getBlockPos().asLong(), machine);
+        machine.sleeping = false;
+        if (ticking) {
+            // Entraria no bucket em iteração e rodaria de novo neste tick
+            machine.pendingSchedule = true;
+            pendingRegistrations.add(machine);
+            return;
+        }
+        attach(machine);
+    }
+
+    private void attach(AlienMachineBlockEntity machine) {
+        int interval = Math.max(1, machine.getScheduledTickInterval());
+        Wheel wheel = wheels.get(interval);
+        if (wheel == null) {
+            wheel = new Wheel(interval);
+            wheels.put(interval, wheel);
+            wheelList.add(wheel);
+        }
+        Bucket bucket = wheel.leastLoaded();
+        machine.scheduledIndex = bucket.entries.size();
+        bucket.entries.add(machine);
+        bucket.live++;
+        wheel.size++;
+        machine.scheduledBucket = bucket;
+        machine.scheduledWheel = wheel;
+    }
+
+    /**
+     * Take a machine off the schedule entirely (broken or chunk unloaded).
+     */
+    void unregister(AlienMachineBlockEntity machine) {
+        machine.pendingSchedule = false; // A entrada pendente é descartada no fim da passada
+        detach(machine);
+        sleeping.remove(machine.getBlockPos().asLong(), machine);
+        machine.sleeping = false;
+    }
+
+    /**
+     * Move a scheduled machine to the sleeping set.
+     */
+    void sleep(AlienMachineBlockEntity machine) {
+        if (machine.scheduledBucket == null)
+            return;
+        detach(machine);
+        machine.sleeping = true;
+        sleeping.put(machine.getBlockPos().asLong(), machine);
+    }
+
+    /**
+     * Put a sleeping machine back on the schedule.
+     */
+    void wake(AlienMachineBlockEntity machine) {
+        if (machine.sleeping && !machine.isRemoved())
+            register(machine);
+    }
+
+    /**
+     * Wake any sleeping machine adjacent to a block that just changed.
+     */
+    public void onNeighborChanged(BlockPos pos, EnumSet<Direction> sides) {
+        if (sleeping.isEmpty())
+            return;
+        for (Direction dir : sides) {
+            AlienMachineBlockEntity machine = sleeping.get(BlockPos.asLong(
+                    pos.getX() + dir.getStepX(), pos.getY() + dir.getStepY(), pos.getZ() + dir.getStepZ()));
+            if (machine != null)
+                wake(machine);
+        }
+    }
+
+    private void detach(AlienMachineBlockEntity machine) {
+        Bucket bucket = machine.scheduledBucket;
+        if (bucket == null)
+            return;
+        int index = machine.scheduledIndex;
+        List<AlienMachineBlockEntity> entries = bucket.entries;
+        if (ticking) {
+            // Tombstone: the bucket may be mid-iteration, compacted after the pass
+            entries.set(index, null);
+            if (!bucket.dirty) {
+                bucket.dirty = true;
+                dirtyBuckets.add(bucket);
+            }
+        } else {
+            // Swap-remove: o último ocupa a vaga
+            AlienMachineBlockEntity last = entries.remove(entries.size() - 1);
+            if (last != machine) {
+                entries.set(index, last);
+                if (last != null)
+                    last.scheduledIndex = index;
+            }
+        }
+        bucket.live--;
+        machine.scheduledWheel.size--;
+        machine.scheduledBucket = null;
+        machine.scheduledIndex = -1;
+        machine.scheduledWheel = null;
+    }
+
+    /**
+     * @return number of machines currently on the schedule (awake)
+     */
+    public int getScheduledCount() {
+        int count = 0;
+        for (Wheel wheel : wheelList) {
+            count += wheel.size;
+        }
+        return count;
+    }
+
+    /**
+     * @return number of machines sleeping until woken
+     */
+    public int getSleepingCount() {
+        return sleeping.size();
+    }
+
+    // ==================== Persistence ====================
+
+    /**
+     * Queue a machine for one {@code setChanged()} at the end of this tick.
+     * The caller guarantees each machine is queued at most once per flush.
+     */
+    void queueChange(AlienMachineBlockEntity machine) {
+        pendingChanges.add(machine);
+    }
+
+    private void flushChanges() {
+        // Index loop: setChanged() may notify neighbours that mark again
+        for (int i = 0; i < pendingChanges.size(); i++) {
+            pendingChanges.get(i).flushChanges();
+        }
+        pendingChanges.clear();
+    }
+
+    // ==================== Ticking ====================
+
+    /**
+     * Run every machine whose bucket is due this tick.
+     */
+    public void tick() {
+        long gameTime = level.getGameTime();
+        ticking = true;
+        try {
+            for (int w = 0; w < wheelList.size(); w++) {
+                Wheel wheel = wheelList.get(w);
+                if (wheel.size == 0)
+                    continue;
+                List<AlienMachineBlockEntity> bucket = wheel.phases[(int) (gameTime % wheel.interval)].entries;
+                // Registrations are deferred while ticking, so the size is stable
+                for (int i = 0; i < bucket.size(); i++) {
+                    AlienMachineBlockEntity machine = bucket.get(i);
+                    if (machine == null)
+                        continue;
+                    if (machine.isRemoved()) {
+                        unregister(machine);
+                        continue;
+                    }
+                    // Same gate as vanilla tickers: only block-ticking chunks run
+                    if (!level.shouldTickBlocksAt(machine.getBlockPos()))
+                        continue;
+                    long start = AlienMetrics.MACHINE_TICK_TIME.start();
+                    long profiled = TickProfiler.begin();
+                    try {
+                        machine.runScheduledTick(this);
+                    } catch (Exception e) {
+                        AlienTech.LOGGER.error("Error ticking machine {} at {}",
+                                machine.getClass().getSimpleName(), machine.getBlockPos(), e);
+                    }
+                    TickProfiler.endBlockEntity(machine, profiled);
+                    AlienMetrics.MACHINE_TICK_TIME.stop(start);
+                    AlienMetrics.MACHINE_TICKS.increment();
+                }
+            }
+        } finally {
+            ticking = false;
+        }
+
+        if (!dirtyBuckets.isEmpty()) {
+            for (Bucket bucket : dirtyBuckets) {
+                bucket.compact();
+            }
+            dirtyBuckets.clear();
+        }
+
+        if (!pendingRegistrations.isEmpty()) {
+            // Index loop: attach() never re-enters this list
+            for (int i = 0; i < pendingRegistrations.size(); i++) {
+                AlienMachineBlockEntity machine = pendingRegistrations.get(i);
+                if (!machine.pendingSchedule)
+                    continue; // Unregistered while pending
+                machine.pendingSchedule = false;
+                if (!machine.isRemoved() && !machine.sleeping)
+                    attach(machine);
+            }
+            pendingRegistrations.clear();
+        }
+
+        if (!pendingChanges.isEmpty())
+            flushChanges();
+    }
+
+    /**
+     * Machines of one phase. {@code live} excludes tombstones.
+     */
+    static final class Bucket {
+        private final List<AlienMachineBlockEntity> entries = new ArrayList<>();
+        private int live = 0;
+        private boolean dirty = false;
+
+        /**
+         * Drop tombstones and renumber the surviving machines.
+         */
+        private void compact() {
+            int write = 0;
+            for (int read = 0; read < entries.size(); read++) {
+                AlienMachineBlockEntity machine = entries.get(read);
+                if (machine == null)
+                    continue;
+                machine.scheduledIndex = write;
+                entries.set(write++, machine);
+            }
+            entries.subList(write, entries.size()).clear();
+            dirty = false;
+        }
+    }
+
+    /**
+     * All buckets of one tick interval, indexed by phase.
+     */
+    static final class Wheel {
+        private final int interval;
+        private final Bucket[] phases;
+        private int size = 0;
+
+        private Wheel(int interval) {
+            this.interval = interval;
+            this.phases = new Bucket[interval];
+            for (int i = 0; i < interval; i++) {
+                phases[i] = new Bucket();
+            }
+        }
+
+        private Bucket leastLoaded() {
+            Bucket best = phases[0];
+            for (int i = 1; i < phases.length && best.live > 0; i++) {
+                if (phases[i].live < best.live)
+                    best = phases[i];
+            }
+            return best;
+        }
+    }
+}
@@ -5,26 +5,48 @@ import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.neoforged.neoforge.capabilities.BlockCapability;
 import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.nicotfpn.alientech.metrics.AlienMetrics;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.EnumMap;
-import java.util.Map;
-
 /**
  * Manages capability caches to optimize lookups per tick without iteration
  * overhead.
+ * <p>
+ * Each face owns a {@link BlockCapabilityCache} created on first use. The
+ * resolved handler is memoized per face and only re-read after that face's
+ * cache reports an invalidation (block placed/broken, provider invalidated),
+ * so steady-state lookups are an array read — no provider dispatch.
+ * <p>
+ * An optional invalidation listener is notified whenever a neighbour's
+ * capability changes, so owners can rebuild derived state lazily instead of
+ * polling.
  */
 public class CapabilityCacheManager<T, C> {
 
+    private static final int ALL_FACES = (1 << 6) - 1;
+
     private final BlockCapability<T, C> capability;
     private final ServerLevel level;
     private final BlockPos pos;
-    private final Map<Direction, BlockCapabilityCache<T, C>> caches = new EnumMap<>(Direction.class);
+    @SuppressWarnings("unchecked")
+    private final BlockCapabilityCache<T, C>[] caches = new BlockCapabilityCache[6];
+    private final Object[] resolved = new Object[6];
+    @Nullable
+    private final Runnable invalidationListener;
+    // Bit per Direction.get3DDataValue(): memoized handler must be re-read
+    private int dirtyFaces = ALL_FACES;
+    private boolean valid = true;
 
     public CapabilityCacheManager(BlockCapability<T, C> capability, ServerLevel level, BlockPos pos) {
+        this(capability, level, pos, null);
+    }
+
+    public CapabilityCacheManager(BlockCapability<T, C> capability, ServerLevel level, BlockPos pos,
+            @Nullable Runnable invalidationListener) {
         this.capability = capability;
         this.level = level;
         this.pos = pos;
+        this.invalidationListener = invalidationListener;
     }
 
     /**
@@ -34,19 +56,44 @@ public class CapabilityCacheManager<T, C> {
     @SuppressWarnings("unchecked")
     @Nullable
     public T getCapability(Direction dir) {
-        if (dir == null)
+        if (dir == null || !valid)
             return null; // Unhandled internal directions for now
 
-        BlockCapabilityCache<T, C> cache = caches.computeIfAbsent(dir,
-                d -> BlockCapabilityCache.create(capability, level, pos.relative(d), (C) d.getOpposite()));
-        return cache.getCapability();
+        int face = dir.get3DDataValue();
+        if ((dirtyFaces & (1 << face)) != 0) {
+            BlockCapabilityCache<T, C> cache = caches[face];
+            if (cache == null) {
+                cache = BlockCapabilityCache.create(capability, level, pos.relative(dir), (C) dir.getOpposite(),
+                        () -> valid, () -> onInvalidated(face));
+                caches[face] = cache;
+                AlienMetrics.CAPABILITY_CACHES_CREATED.increment();
+            }
+            // Clear first: an invalidation fired while resolving re-marks the face
+            dirtyFaces &= ~(1 << face);
+            resolved[face] = cache.getCapability();
+        }
+        AlienMetrics.CAPABILITY_CACHED_LOOKUPS.increment();
+        return (T) resolved[face];
+    }
+
+    private void onInvalidated(int face) {
+        dirtyFaces |= 1 << face;
+        resolved[face] = null;
+        AlienMetrics.CAPABILITY_INVALIDATIONS.increment();
+        if (invalidationListener != null)
+            invalidationListener.run();
     }
 
     /**
      * Called when the tile entity is invalidated, dropping references to cleanly GC
-     * the caches.
+     * the caches. Listeners stop firing from this point on.
      */
     public void invalidateAll() {
-        caches.clear();
+        valid = false;
+        dirtyFaces = ALL_FACES;
+        for (int i = 0; i < 6; i++) {
+            caches[i] = null;
+            resolved[i] = null;
+        }
     }
 }
@@ -6,11 +6,20 @@ import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
 
 public abstract class AlienComponent {
     protected final AlienMachineBlockEntity tile;
+    // Resolved once: subclasses share the key of their registered base type
+    private final ComponentType<?> componentType = ComponentType.of(getClass());
 
     public AlienComponent(AlienMachineBlockEntity tile) {
         this.tile = tile;
     }
 
+    /**
+     * Key under which the parent machine stores this component.
+     */
+    public final ComponentType<?> getComponentType() {
+        return componentType;
+    }
+
     /**
      * Unique ID to namespace this component's NBT saves (e.g., "Energy",
      * "Inventory").
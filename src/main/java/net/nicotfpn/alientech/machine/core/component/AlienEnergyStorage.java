@@ -5,13 +5,38 @@ import net.neoforged.neoforge.energy.EnergyStorage;
 /**
  * Custom EnergyStorage to expose energy manipulation for NBT saving/loading and
  * component delegation.
+ * <p>
+ * External transfers (receive/extract that actually move energy) notify an
+ * optional listener — used to wake sleeping machines.
  */
 public class AlienEnergyStorage extends EnergyStorage {
 
+    private Runnable changeListener;
+
     public AlienEnergyStorage(int capacity, int maxReceive, int maxExtract) {
         super(capacity, maxReceive, maxExtract);
     }
 
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    @Override
+    public int receiveEnergy(int toReceive, boolean simulate) {
+        int received = super.receiveEnergy(toReceive, simulate);
+        if (received > 0 && !simulate && changeListener != null)
+            changeListener.run();
+        return received;
+    }
+
+    @Override
+    public int extractEnergy(int toExtract, boolean simulate) {
+        int extracted = super.extractEnergy(toExtract, simulate);
+        if (extracted > 0 && !simulate && changeListener != null)
+            changeListener.run();
+        return extracted;
+    }
+
     public void setEnergy(int energy) {
         this.energy = Math.max(0, Math.min(energy, this.capacity));
     }
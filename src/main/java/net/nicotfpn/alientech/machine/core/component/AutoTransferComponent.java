@@ -1,17 +1,17 @@
 package net.nicotfpn.alientech.machine.core.component;
 
-import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.block.Block;
-import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.items.IItemHandler;
-import net.neoforged.neoforge.items.ItemHandlerHelper;
+import net.nicotfpn.alientech.BakedConfig;
 import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
 import net.nicotfpn.alientech.network.sideconfig.CapabilityType;
 import net.nicotfpn.alientech.network.sideconfig.IOSideMode;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Componente de transferência automática (AutoEject / AutoPull).
@@ -20,17 +20,31 @@ import java.util.List;
  * NUNCA itera sobre Direction.values() cegamente — usa o cache do
  * SideConfigComponent.
  *
- * Cache de neighbors: BlockEntity vizinho é resolvido uma vez e cacheado por
- * face.
- * Cache é invalidado em onNeighborChanged da BlockEntity dona.
+ * Cache de neighbors: handlers vizinhos vêm de
+ * {@link AlienMachineBlockEntity#getNeighborItems}, que memoiza por face e só
+ * re-resolve quando a capability do vizinho é invalidada.
+ * <p>
+ * Motor em lote: cada tick move até {@code autoTransferItemsPerOperation}
+ * itens de até {@code autoTransferStacksPerOperation} slots de origem,
+ * somando todas as faces. O eject visita apenas slots ocupados (índice do
+ * {@link InventoryComponent}); a inserção tenta primeiro o último slot de
+ * destino que aceitou aquele item, antes de varrer o inventário vizinho.
  */
 public class AutoTransferComponent extends AlienComponent implements TickableComponent {
 
-    // Cache de handlers vizinhos por face (index = Direction.get3DDataValue())
-    // null = não resolvido ainda; EMPTY_SENTINEL = vizinho sem ItemHandler
-    private final IItemHandler[] neighborCache = new IItemHandler[6];
-    private boolean neighborCacheDirty = true;
+    public static final ComponentType<AutoTransferComponent> TYPE = ComponentType.register(AutoTransferComponent.class);
+
     private SideConfigComponent sideConfig; // Injetado após registro
+    private InventoryComponent inventory; // Resolvido no primeiro tick
+
+    // Dica de slot de destino por face e tipo de item (index = get3DDataValue())
+    @SuppressWarnings("unchecked")
+    private final Map<Item, Integer>[] insertHints = new Map[6];
+    private final Map<Item, Integer> ownInsertHints = new IdentityHashMap<>();
+
+    // Orçamento restante do tick corrente
+    private int itemBudget;
+    private int stackBudget;
 
     public AutoTransferComponent(AlienMachineBlockEntity tile) {
         super(tile);
@@ -51,100 +65,133 @@ public class AutoTransferComponent extends AlienComponent implements TickableCom
     public void tick(AlienMachineBlockEntity machine) {
         if (sideConfig == null)
             return;
-        InventoryComponent inventory = machine.hasComponent(InventoryComponent.class)
-                ? machine.getComponent(InventoryComponent.class)
-                : null;
-        if (inventory == null)
-            return;
+        if (inventory == null) {
+            if (!machine.hasComponent(InventoryComponent.TYPE))
+                return;
+            inventory = machine.getComponent(InventoryComponent.TYPE);
+        }
+
+        BakedConfig config = BakedConfig.get();
+        itemBudget = config.autoTransferItemsPerOperation();
+        stackBudget = config.autoTransferStacksPerOperation();
 
         // Apenas faces ativas (PUSH ou PULL) — lista pré-computada, não
         // Direction.values()
         List<Direction> activeFaces = sideConfig.getActiveFaces();
 
-        for (Direction face : activeFaces) {
+        for (int i = 0; i < activeFaces.size() && itemBudget > 0 && stackBudget > 0; i++) {
+            Direction face = activeFaces.get(i);
             IOSideMode mode = sideConfig.getMode(face, CapabilityType.ITEM);
 
             if (mode == IOSideMode.PUSH) {
-                performEject(machine, inventory, face);
+                performEject(machine, face);
             } else if (mode == IOSideMode.PULL) {
-                performPull(machine, inventory, face);
+                performPull(machine, face);
             }
         }
     }
 
     /**
      * Empurra itens do inventário desta máquina para o inventário adjacente na
-     * face.
-     * Resolve o neighbor uma vez por invalidação de cache.
+     * face, visitando só slots ocupados.
      */
-    private void performEject(AlienMachineBlockEntity machine,
-            InventoryComponent inventory,
-            Direction face) {
-        IItemHandler neighbor = resolveNeighbor(machine, face);
+    private void performEject(AlienMachineBlockEntity machine, Direction face) {
+        IItemHandler neighbor = machine.getNeighborItems(face);
         if (neighbor == null)
             return;
+        IItemHandler source = inventory.getHandler();
+        Map<Item, Integer> hints = hintsFor(face);
 
-        for (int slot = 0; slot < inventory.getHandler().getSlots(); slot++) {
-            ItemStack stack = inventory.getHandler().extractItem(slot, 64, true); // simulate
-            if (stack.isEmpty())
-                continue;
-
-            ItemStack remainder = ItemHandlerHelper.insertItemStacked(neighbor, stack, false);
-            if (remainder.getCount() != stack.getCount()) {
-                // Algo foi inserido — confirmar extração
-                inventory.getHandler().extractItem(slot, stack.getCount() - remainder.getCount(), false);
-                break; // Um slot por tick para distribuir a carga de TPS (evitar travamento)
-            }
+        for (int slot = inventory.nextOccupiedSlot(0); slot >= 0 && itemBudget > 0 && stackBudget > 0;
+                slot = inventory.nextOccupiedSlot(slot + 1)) {
+            moveSlot(source, slot, neighbor, hints);
         }
     }
 
     /**
      * Puxa itens do inventário adjacente na face para o inventário desta máquina.
      */
-    private void performPull(AlienMachineBlockEntity machine,
-            InventoryComponent inventory,
-            Direction face) {
-        IItemHandler neighbor = resolveNeighbor(machine, face);
+    private void performPull(AlienMachineBlockEntity machine, Direction face) {
+        IItemHandler neighbor = machine.getNeighborItems(face);
         if (neighbor == null)
             return;
 
-        for (int slot = 0; slot < neighbor.getSlots(); slot++) {
-            ItemStack stack = neighbor.extractItem(slot, 64, true); // simulate
-            if (stack.isEmpty())
+        for (int slot = 0; slot < neighbor.getSlots() && itemBudget > 0 && stackBudget > 0; slot++) {
+            if (neighbor.getStackInSlot(slot).isEmpty())
                 continue;
+            moveSlot(neighbor, slot, inventory.getHandler(), ownInsertHints);
+        }
+    }
 
-            ItemStack remainder = ItemHandlerHelper.insertItemStacked(
-                    inventory.getHandler(), stack, false);
-            if (remainder.getCount() != stack.getCount()) {
-                neighbor.extractItem(slot, stack.getCount() - remainder.getCount(), false);
-                break; // Um slot por tick
-            }
+    /**
+     * Simula a extração do slot de origem (limitada ao orçamento), insere de
+     * verdade no destino e confirma a extração do que entrou.
+     */
+    private void moveSlot(IItemHandler source, int slot, IItemHandler dest, Map<Item, Integer> hints) {
+        ItemStack stack = source.extractItem(slot, itemBudget, true); // simulate
+        if (stack.isEmpty())
+            return;
+
+        ItemStack remainder = insertWithHint(dest, stack.copy(), hints);
+        int moved = stack.getCount() - remainder.getCount();
+        if (moved > 0) {
+            // Algo foi inserido — confirmar extração
+            source.extractItem(slot, moved, false);
+            itemBudget -= moved;
+            stackBudget--;
         }
     }
 
     /**
-     * Resolve e cacheia o IItemHandler do vizinho em uma direção.
-     * Cache é invalidado por neighborCacheDirty (setado em onNeighborChanged).
-     *
-     * @return O IItemHandler do vizinho, ou null se não houver.
+     * Mesma ordem do ItemHandlerHelper.insertItemStacked (slots empilháveis,
+     * depois qualquer slot), mas começando pelo último slot que aceitou este
+     * item.
      */
-    private IItemHandler resolveNeighbor(AlienMachineBlockEntity machine, Direction face) {
-        int idx = face.get3DDataValue();
-        if (neighborCacheDirty || neighborCache[idx] == null) {
-            BlockPos neighborPos = machine.getBlockPos().relative(face);
-            if (machine.getLevel() != null) {
-                neighborCache[idx] = machine.getLevel().getCapability(
-                        Capabilities.ItemHandler.BLOCK, neighborPos, face.getOpposite());
-            }
+    private static ItemStack insertWithHint(IItemHandler dest, ItemStack stack, Map<Item, Integer> hints) {
+        Item item = stack.getItem();
+        int slots = dest.getSlots();
+        Integer hint = hints.get(item);
+        if (hint != null && hint < slots) {
+            stack = dest.insertItem(hint, stack, false);
+            if (stack.isEmpty())
+                return stack;
         }
-        return neighborCache[idx];
+
+        // 1. Slots que já têm o mesmo item
+        for (int i = 0; i < slots; i++) {
+            ItemStack inSlot = dest.getStackInSlot(i);
+            if (inSlot.isEmpty() || !ItemStack.isSameItemSameComponents(inSlot, stack))
+                continue;
+            stack = tryInsert(dest, i, stack, item, hints);
+            if (stack.isEmpty())
+                return stack;
+        }
+        // 2. Qualquer slot (vazios)
+        for (int i = 0; i < slots; i++) {
+            if (!dest.getStackInSlot(i).isEmpty())
+                continue;
+            stack = tryInsert(dest, i, stack, item, hints);
+            if (stack.isEmpty())
+                return stack;
+        }
+        return stack;
     }
 
-    /** Chamado pela BlockEntity em onNeighborChanged para invalidar o cache. */
-    public void invalidateNeighborCache(BlockPos neighborPos, Block block) {
-        neighborCacheDirty = true;
-        // Não limpar o array — apenas marcar como dirty para lazy reload
-        java.util.Arrays.fill(neighborCache, null);
+    private static ItemStack tryInsert(IItemHandler dest, int slot, ItemStack stack, Item item,
+            Map<Item, Integer> hints) {
+        ItemStack remainder = dest.insertItem(slot, stack, false);
+        if (remainder.getCount() != stack.getCount())
+            hints.put(item, slot);
+        return remainder;
+    }
+
+    private Map<Item, Integer> hintsFor(Direction face) {
+        Map<Item, Integer> hints = insertHints[face.get3DDataValue()];
+        if (hints == null) {
+            hints = new IdentityHashMap<>();
+            insertHints[face.get3DDataValue()] = hints;
+        }
+        return hints;
     }
 
     public void injectSideConfig(SideConfigComponent sideConfig) {
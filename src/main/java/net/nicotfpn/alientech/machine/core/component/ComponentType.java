@@ -0,0 +1,100 @@
+package net.nicotfpn.alientech.machine.core.component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registered key of a component class, with a dense integer id.
+ * <p>
+ * Machines store their components in an array indexed by {@link #id()}, so
+ * {@code getComponent}/{@code hasComponent} are an array read instead of a
+ * {@code HashMap<Class, ?>} lookup.
+ * <p>
+ * Built-in components declare their key as a {@code TYPE} constant. A
+ * subclass (e.g. an anonymous {@link InventoryComponent} overriding
+ * {@code save}) resolves to the key of its nearest registered superclass, so
+ * it is still found by {@code getComponent(InventoryComponent.class)}.
+ * Classes that never declared a key are registered on first use.
+ */
+public final class ComponentType<T extends AlienComponent> {
+
+    private static final Map<Class<?>, ComponentType<?>> REGISTERED = new HashMap<>();
+    private static final List<ComponentType<?>> BY_ID = new ArrayList<>();
+
+    // Per-class resolution, cached by the JVM after the first lookup
+    private static final ClassValue<ComponentType<?>> RESOLVED = new ClassValue<>() {
+        @Override
+        protected ComponentType<?> computeValue(Class<?> type) {
+            synchronized (REGISTERED) {
+                for (Class<?> c = type; c != null && c != AlienComponent.class; c = c.getSuperclass()) {
+                    ComponentType<?> key = REGISTERED.get(c);
+                    if (key != null)
+                        return key;
+                }
+                return registerLocked(type);
+            }
+        }
+    };
+
+    private final Class<T> type;
+    private final int id;
+
+    private ComponentType(Class<T> type, int id) {
+        this.type = type;
+        this.id = id;
+    }
+
+    /**
+     * Register (or fetch) the key of a component class. Idempotent.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends AlienComponent> ComponentType<T> register(Class<T> type) {
+        synchronized (REGISTERED) {
+            return (ComponentType<T>) registerLocked(type);
+        }
+    }
+
+    private static ComponentType<?> registerLocked(Class<?> type) {
+        ComponentType<?> key = REGISTERED.get(type);
+        if (key == null) {
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            ComponentType<?> created = new ComponentType(type, BY_ID.size());
+            key = created;
+            REGISTERED.put(type, key);
+            BY_ID.add(key);
+        }
+        return key;
+    }
+
+    /**
+     * Key under which a component class (or one of its subclasses) is stored.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends AlienComponent> ComponentType<? super T> of(Class<T> type) {
+        return (ComponentType<? super T>) RESOLVED.get(type);
+    }
+
+    /**
+     * @return number of keys registered so far (upper bound of {@link #id()})
+     */
+    public static int count() {
+        synchronized (REGISTERED) {
+            return BY_ID.size();
+        }
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentType[" + type.getSimpleName() + "#" + id + "]";
+    }
+}
@@ -8,11 +8,18 @@ import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
  * Handles Forge Energy (FE) buffering for a machine.
  */
 public class EnergyComponent extends AlienComponent {
+
+    public static final ComponentType<EnergyComponent> TYPE = ComponentType.register(EnergyComponent.class);
+
     private final AlienEnergyStorage energyStorage;
 
     public EnergyComponent(AlienMachineBlockEntity tile, int capacity, int maxReceive, int maxExtract) {
         super(tile);
         this.energyStorage = new AlienEnergyStorage(capacity, maxReceive, maxExtract);
+        this.energyStorage.setChangeListener(() -> {
+            tile.markDirty();
+            tile.wakeUp();
+        });
     }
 
     @Override
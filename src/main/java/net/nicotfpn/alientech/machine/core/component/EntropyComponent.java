@@ -9,6 +9,8 @@ import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
  */
 public class EntropyComponent extends AlienComponent {
 
+    public static final ComponentType<EntropyComponent> TYPE = ComponentType.register(EntropyComponent.class);
+
     private long entropyStored;
     private final long maxEntropy;
 
@@ -36,7 +38,11 @@ public class EntropyComponent extends AlienComponent {
     }
 
     public void setEntropyStored(long entropyStored) {
-        this.entropyStored = Math.max(0, Math.min(entropyStored, this.maxEntropy));
+        long clamped = Math.max(0, Math.min(entropyStored, this.maxEntropy));
+        if (clamped != this.entropyStored) {
+            this.entropyStored = clamped;
+            tile.markDirty();
+        }
     }
 
     public void addEntropy(long amount) {
@@ -10,14 +10,26 @@ import net.neoforged.neoforge.items.ItemStackHandler;
 import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.BitSet;
 import java.util.function.BiPredicate;
+import java.util.function.IntConsumer;
 
 /**
  * Delegates memory representation to an IItemHandler.
+ * <p>
+ * Keeps a slot-occupancy index so consumers such as
+ * {@link AutoTransferComponent} can visit only non-empty slots. The index is
+ * updated on every handler change notification; code that shrinks a stack in
+ * place bypasses it, so a set bit means "possibly occupied" — callers still
+ * check the stack, and {@link #nextOccupiedSlot} clears stale bits it finds.
  */
 public class InventoryComponent extends AlienComponent {
 
+    public static final ComponentType<InventoryComponent> TYPE = ComponentType.register(InventoryComponent.class);
+
     private final ItemStackHandler itemHandler;
+    private final BitSet occupied;
+    private IntConsumer contentsListener;
 
     public InventoryComponent(AlienMachineBlockEntity tile, int size) {
         this(tile, size, null);
@@ -28,7 +40,16 @@ public class InventoryComponent extends AlienComponent {
         this.itemHandler = new ItemStackHandler(size) {
             @Override
             protected void onContentsChanged(int slot) {
-                tile.setChanged();
+                occupied.set(slot, !getStackInSlot(slot).isEmpty());
+                tile.markDirty();
+                tile.wakeUp();
+                if (contentsListener != null)
+                    contentsListener.accept(slot);
+            }
+
+            @Override
+            protected void onLoad() {
+                rebuildOccupancy();
             }
 
             @Override
@@ -38,6 +59,7 @@ public class InventoryComponent extends AlienComponent {
                 return super.isItemValid(slot, stack);
             }
         };
+        this.occupied = new BitSet(size);
     }
 
     @Override
@@ -54,6 +76,44 @@ public class InventoryComponent extends AlienComponent {
         return itemHandler;
     }
 
+    /**
+     * Callback with the slot index of every handler change notification
+     * (e.g. to invalidate a machine's recipe cache).
+     */
+    public void setContentsListener(IntConsumer contentsListener) {
+        this.contentsListener = contentsListener;
+    }
+
+    // ==================== Occupancy Index ====================
+
+    /**
+     * First slot at or after {@code from} that holds items, or -1.
+     */
+    public int nextOccupiedSlot(int from) {
+        for (int slot = occupied.nextSetBit(from); slot >= 0 && slot < itemHandler.getSlots();
+                slot = occupied.nextSetBit(slot + 1)) {
+            if (!itemHandler.getStackInSlot(slot).isEmpty())
+                return slot;
+            occupied.clear(slot); // Shrunk in place to empty
+        }
+        return -1;
+    }
+
+    /**
+     * @return true if no slot holds items
+     */
+    public boolean isEmpty() {
+        return nextOccupiedSlot(0) < 0;
+    }
+
+    private void rebuildOccupancy() {
+        occupied.clear();
+        for (int i = 0; i < itemHandler.getSlots(); i++) {
+            if (!itemHandler.getStackInSlot(i).isEmpty())
+                occupied.set(i);
+        }
+    }
+
     /** @deprecated Use getHandler() instead */
     @Deprecated
     public ItemStackHandler getItemHandler() {
@@ -4,18 +4,34 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
 
 /**
  * Handles processing logic, ticks, and state changes.
  * This component stops ticking when 'isWorking' is false, optimizing TPS.
+ * <p>
+ * Progress is a fixed-point accumulator ({@link #PROGRESS_ONE} units per
+ * tick of work). A speed supplier above {@code PROGRESS_ONE} lets heavily
+ * upgraded machines finish fractional operations, or several operations,
+ * within a single tick; below it, one operation spans more ticks.
  */
 public class ProcessingComponent extends AlienComponent {
 
+    public static final ComponentType<ProcessingComponent> TYPE = ComponentType.register(ProcessingComponent.class);
+
+    /** Fixed-point scale: progress gained by one tick at base speed. */
+    public static final int PROGRESS_ONE = 1 << 16;
+    private static final int FRACTION_BITS = 16;
+    /** Upper bound of completions per tick, however fast the machine runs. */
+    private static final int MAX_OPERATIONS_PER_TICK = 64;
+
     private boolean isWorking;
-    private int progress;
+    private long progress; // fixed-point, PROGRESS_ONE per tick
     private final IntSupplier maxProgressSupplier;
     private final Runnable onComplete;
+    private IntSupplier speedSupplier;
+    private BooleanSupplier repeatCondition;
 
     public ProcessingComponent(AlienMachineBlockEntity tile, IntSupplier maxProgressSupplier, Runnable onComplete) {
         super(tile);
@@ -25,6 +41,25 @@ public class ProcessingComponent extends AlienComponent {
         this.progress = 0;
     }
 
+    /**
+     * Progress per tick in {@link #PROGRESS_ONE} units (e.g.
+     * {@code UpgradeComponent::getProcessingSpeed}). Null = base speed.
+     */
+    public ProcessingComponent setSpeedSupplier(IntSupplier speedSupplier) {
+        this.speedSupplier = speedSupplier;
+        return this;
+    }
+
+    /**
+     * Checked after each completion: while true and enough progress is left,
+     * the next operation completes in the same tick. Without it at most one
+     * operation completes per tick and the surplus carries over.
+     */
+    public ProcessingComponent setRepeatCondition(BooleanSupplier repeatCondition) {
+        this.repeatCondition = repeatCondition;
+        return this;
+    }
+
     @Override
     public String getId() {
         return "Processing";
@@ -46,18 +81,23 @@ public class ProcessingComponent extends AlienComponent {
         return isWorking;
     }
 
+    /**
+     * @return whole ticks of progress (GUI / sync)
+     */
     public int getProgress() {
-        return progress;
+        return (int) (progress >> FRACTION_BITS);
     }
 
     public void setProgress(int progress) {
-        this.progress = progress;
-        this.tile.setChanged();
+        long fixed = (long) Math.max(0, progress) << FRACTION_BITS;
+        if (this.progress != fixed) {
+            this.progress = fixed;
+            this.tile.markDirty();
+        }
     }
 
     public void resetProgress() {
-        this.progress = 0;
-        this.tile.setChanged();
+        setProgress(0);
     }
 
     public int getMaxProgress() {
@@ -69,20 +109,29 @@ public class ProcessingComponent extends AlienComponent {
         if (!isWorking)
             return false;
 
-        progress++;
-        if (progress >= getMaxProgress()) {
-            progress = 0;
+        int speed = speedSupplier != null ? Math.max(0, speedSupplier.getAsInt()) : PROGRESS_ONE;
+        progress += speed;
+
+        long max = (long) Math.max(1, getMaxProgress()) << FRACTION_BITS;
+        for (int ops = 0; progress >= max && ops < MAX_OPERATIONS_PER_TICK; ops++) {
+            progress -= max;
             if (onComplete != null) {
                 onComplete.run();
             }
+            if (!isWorking || repeatCondition == null || !repeatCondition.getAsBoolean())
+                break;
         }
+        // Surplus carries over, but never more than one pending operation
+        if (progress >= max)
+            progress = max - 1;
         return true;
     }
 
     @Override
     public void save(CompoundTag tag, HolderLookup.Provider provider) {
         tag.putBoolean("IsWorking", this.isWorking);
-        tag.putInt("Progress", this.progress);
+        tag.putInt("Progress", getProgress());
+        tag.putInt("ProgressFraction", (int) (this.progress & (PROGRESS_ONE - 1)));
     }
 
     @Override
@@ -91,7 +140,8 @@ public class ProcessingComponent extends AlienComponent {
             this.setWorking(tag.getBoolean("IsWorking")); // Ensure state is restored actively
         }
         if (tag.contains("Progress")) {
-            this.progress = tag.getInt("Progress");
+            this.progress = ((long) Math.max(0, tag.getInt("Progress")) << FRACTION_BITS)
+                    | (tag.getInt("ProgressFraction") & (PROGRESS_ONE - 1));
         }
     }
 }
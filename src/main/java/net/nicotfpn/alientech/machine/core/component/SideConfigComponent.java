@@ -2,12 +2,12 @@ package net.nicotfpn.alientech.machine.core.component;
 
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.nicotfpn.alientech.network.sideconfig.CapabilityType;
 import net.nicotfpn.alientech.network.sideconfig.IOSideMode;
 
-import java.util.EnumMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Componente responsável por armazenar e gerenciar a configuração de I/O
@@ -15,36 +15,61 @@ import java.util.Map;
  *
  * NÃO implementa TickableComponent — é puramente consultado pelos wrappers
  * de capability e pelo AutoTransferComponent.
+ * <p>
+ * Toda a configuração cabe num único {@code long}: 3 bits de
+ * {@link IOSideMode#ordinal()} por (tipo, face), no offset
+ * {@code (type.ordinal() * 6 + face.get3DDataValue()) * 3} — 54 bits no total.
+ * Zero = todas as faces NONE. Consultas são um shift e uma máscara; a
+ * sincronização com o cliente é um único varlong.
  */
 public class SideConfigComponent extends AlienComponent {
 
-    // Mapa: CapabilityType → (Direction → IOSideMode)
-    // EnumMap para acesso O(1) sem boxing overhead
-    private final Map<CapabilityType, Map<Direction, IOSideMode>> config = new EnumMap<>(CapabilityType.class);
+    public static final ComponentType<SideConfigComponent> TYPE = ComponentType.register(SideConfigComponent.class);
 
-    // Cache de faces ativas (PUSH ou PULL) para o AutoTransferComponent
-    // Invalida quando setMode() é chamado
-    private boolean activeTransferCacheDirty = true;
-    private List<Direction> cachedActiveFaces = List.of();
+    private static final int BITS_PER_MODE = 3;
+    private static final long MODE_MASK = (1L << BITS_PER_MODE) - 1;
+    private static final IOSideMode[] MODES = IOSideMode.values();
+    private static final Direction[] FACES = new Direction[6];
 
-    public SideConfigComponent(net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity tile) {
-        super(tile);
-        // Inicializar todos os modos como NONE por padrão
-        for (CapabilityType type : CapabilityType.values()) {
-            Map<Direction, IOSideMode> faceMap = new EnumMap<>(Direction.class);
-            for (Direction direction : Direction.values()) {
-                faceMap.put(direction, IOSideMode.NONE);
+    // Listas imutáveis de faces ativas, indexadas pela máscara de 6 bits
+    @SuppressWarnings("unchecked")
+    private static final List<Direction>[] FACE_LISTS = new List[1 << 6];
+
+    private static final String NBT_KEY = "side_config_bits";
+    private static final String LEGACY_NBT_KEY = "side_config";
+
+    static {
+        for (Direction dir : Direction.values()) {
+            FACES[dir.get3DDataValue()] = dir;
+        }
+        for (int mask = 0; mask < FACE_LISTS.length; mask++) {
+            List<Direction> faces = new ArrayList<>(6);
+            for (int face = 0; face < 6; face++) {
+                if ((mask & (1 << face)) != 0)
+                    faces.add(FACES[face]);
             }
-            config.put(type, faceMap);
+            FACE_LISTS[mask] = List.copyOf(faces);
         }
     }
 
+    private long packed = 0L;
+    // Faces com PUSH ou PULL para ITEMS (bit = get3DDataValue), derivado de packed
+    private int activeItemFaces = 0;
+
+    public SideConfigComponent(net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity tile) {
+        super(tile);
+    }
+
+    private static int shift(Direction face, CapabilityType type) {
+        return (type.ordinal() * 6 + face.get3DDataValue()) * BITS_PER_MODE;
+    }
+
     /**
      * Retorna o modo configurado para uma face e tipo de capability.
      * O(1) — safe para chamar no tick (nos wrappers).
      */
     public IOSideMode getMode(Direction face, CapabilityType type) {
-        return config.get(type).get(face);
+        return MODES[(int) ((packed >>> shift(face, type)) & MODE_MASK)];
     }
 
     /**
@@ -64,8 +89,11 @@ public class SideConfigComponent extends AlienComponent {
                     "AlienTech: IOSideMode.BOTH é proibido para " + type +
                             ". Apenas CapabilityType.ITEM aceita modo BOTH.");
         }
-        config.get(type).put(face, mode);
-        activeTransferCacheDirty = true;
+        int shift = shift(face, type);
+        packed = (packed & ~(MODE_MASK << shift)) | ((long) mode.ordinal() << shift);
+        rebuildActiveFaces();
+        if (tile != null)
+            tile.wakeUp(); // Nova face PUSH/PULL pode reativar o AutoTransfer
         // A BlockEntity deve sobrescrever este método para chamar invalidateCaps()
         onModeChanged(face, type, mode);
     }
@@ -80,32 +108,64 @@ public class SideConfigComponent extends AlienComponent {
     }
 
     /**
-     * Retorna se ao menos uma face tem modo PUSH ou PULL para qualquer tipo.
-     * Usado pelo AutoTransferComponent.isActive() em O(1) (resultado cacheado).
+     * Retorna se ao menos uma face tem modo PUSH ou PULL para ITEMS.
+     * Usado pelo AutoTransferComponent.isActive() em O(1).
      */
     public boolean hasAnyActiveTransfer() {
-        if (activeTransferCacheDirty) {
-            rebuildActiveCache();
-        }
-        return !cachedActiveFaces.isEmpty();
+        return activeItemFaces != 0;
     }
 
     /**
      * Retorna as faces com modo PUSH ou PULL para ITEMS.
-     * Resultado cacheado — apenas recalcula quando dirty.
+     * Lista imutável pré-computada — nunca aloca.
      */
     public List<Direction> getActiveFaces() {
-        if (activeTransferCacheDirty) {
-            rebuildActiveCache();
+        return FACE_LISTS[activeItemFaces];
+    }
+
+    private void rebuildActiveFaces() {
+        int mask = 0;
+        for (int face = 0; face < 6; face++) {
+            if (MODES[(int) ((packed >>> shift(FACES[face], CapabilityType.ITEM)) & MODE_MASK)].isActive())
+                mask |= 1 << face;
         }
-        return cachedActiveFaces;
+        activeItemFaces = mask;
+    }
+
+    // =========================================================================
+    // SINCRONIZAÇÃO
+    // =========================================================================
+
+    /**
+     * Configuração completa empacotada (para sync de rede).
+     */
+    public long getPacked() {
+        return packed;
     }
 
-    private void rebuildActiveCache() {
-        cachedActiveFaces = Direction.stream()
-                .filter(d -> config.get(CapabilityType.ITEM).get(d).isActive())
-                .toList();
-        activeTransferCacheDirty = false;
+    /**
+     * Substitui a configuração completa (sync de rede ou NBT). Valores
+     * inválidos viram NONE.
+     */
+    public void setPacked(long bits) {
+        this.packed = sanitize(bits);
+        rebuildActiveFaces();
+    }
+
+    private static long sanitize(long bits) {
+        long result = 0L;
+        for (CapabilityType type : CapabilityType.values()) {
+            for (Direction dir : FACES) {
+                int shift = shift(dir, type);
+                int ordinal = (int) ((bits >>> shift) & MODE_MASK);
+                if (ordinal >= MODES.length)
+                    continue;
+                if (MODES[ordinal] == IOSideMode.BOTH && type != CapabilityType.ITEM)
+                    continue;
+                result |= (long) ordinal << shift;
+            }
+        }
+        return result;
     }
 
     // =========================================================================
@@ -114,34 +174,35 @@ public class SideConfigComponent extends AlienComponent {
 
     @Override
     public void save(CompoundTag tag, net.minecraft.core.HolderLookup.Provider provider) {
-        CompoundTag configTag = new CompoundTag();
-        for (CapabilityType capType : CapabilityType.values()) {
-            CompoundTag typeTag = new CompoundTag();
-            for (Direction dir : Direction.values()) {
-                typeTag.putString(dir.getSerializedName(),
-                        config.get(capType).get(dir).getSerializedName());
-            }
-            configTag.put(capType.name(), typeTag);
-        }
-        tag.put("side_config", configTag);
+        tag.putLong(NBT_KEY, packed);
     }
 
     @Override
     public void load(CompoundTag tag, net.minecraft.core.HolderLookup.Provider provider) {
-        if (!tag.contains("side_config"))
-            return;
-        CompoundTag configTag = tag.getCompound("side_config");
+        if (tag.contains(NBT_KEY, Tag.TAG_LONG)) {
+            setPacked(tag.getLong(NBT_KEY));
+        } else if (tag.contains(LEGACY_NBT_KEY, Tag.TAG_COMPOUND)) {
+            setPacked(loadLegacy(tag.getCompound(LEGACY_NBT_KEY)));
+        }
+    }
+
+    /**
+     * Migração do formato antigo: um CompoundTag por tipo, com o nome do modo
+     * por face.
+     */
+    private static long loadLegacy(CompoundTag configTag) {
+        long bits = 0L;
         for (CapabilityType capType : CapabilityType.values()) {
             if (!configTag.contains(capType.name()))
                 continue;
             CompoundTag typeTag = configTag.getCompound(capType.name());
-            for (Direction dir : Direction.values()) {
+            for (Direction dir : FACES) {
                 String modeName = typeTag.getString(dir.getSerializedName());
                 IOSideMode mode = IOSideMode.byName(modeName, IOSideMode.NONE);
-                config.get(capType).put(dir, mode);
+                bits |= (long) mode.ordinal() << shift(dir, capType);
             }
         }
-        activeTransferCacheDirty = true;
+        return bits;
     }
 
     @Override
@@ -6,16 +6,52 @@ import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
 import net.nicotfpn.alientech.machine.core.component.AlienComponent;
+import net.nicotfpn.alientech.machine.core.component.ComponentType;
+import net.nicotfpn.alientech.machine.core.component.ProcessingComponent;
 
-import java.util.EnumMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Mekanism-grade Upgrade Component.
  * Scaled values: Math.pow(UpgradeType.multiplier, count).
+ * <p>
+ * Powers are tabulated once per {@link UpgradeType}; each component keeps its
+ * resolved multipliers and only recomputes them when an upgrade count
+ * changes, so multiplier queries are plain field/array reads.
  */
 public class UpgradeComponent extends AlienComponent {
-    private final Map<UpgradeType, Integer> upgrades = new EnumMap<>(UpgradeType.class);
+
+    public static final ComponentType<UpgradeComponent> TYPE = ComponentType.register(UpgradeComponent.class);
+
+    private static final UpgradeType[] TYPES = UpgradeType.values();
+    // POWERS[type][count] = multiplier ^ count, count in [0, maxStack]
+    private static final double[][] POWERS = new double[TYPES.length][];
+
+    static {
+        for (UpgradeType type : TYPES) {
+            double[] table = new double[type.getMaxStack() + 1];
+            for (int count = 0; count < table.length; count++) {
+                table[count] = Math.pow(type.getMultiplier(), count);
+            }
+            POWERS[type.ordinal()] = table;
+        }
+    }
+
+    // ENERGY_POWERS[speed - energy + ENERGY.maxStack] = SPEED.multiplier ^ (speed - energy),
+    // cobrindo todo o intervalo com sinal [-ENERGY.maxStack, SPEED.maxStack]
+    private static final int ENERGY_OFFSET = UpgradeType.ENERGY.getMaxStack();
+    private static final double[] ENERGY_POWERS = new double[ENERGY_OFFSET + UpgradeType.SPEED.getMaxStack() + 1];
+
+    static {
+        for (int i = 0; i < ENERGY_POWERS.length; i++) {
+            ENERGY_POWERS[i] = Math.pow(UpgradeType.SPEED.getMultiplier(), i - ENERGY_OFFSET);
+        }
+    }
+
+    private final int[] counts = new int[TYPES.length];
+    private final double[] multipliers = new double[TYPES.length];
+    private double energyMultiplier = 1.0;
+    private int processingSpeed = ProcessingComponent.PROGRESS_ONE;
 
     @Override
     public String getId() {
@@ -24,15 +60,19 @@ public class UpgradeComponent extends AlienComponent {
 
     public UpgradeComponent(AlienMachineBlockEntity tile) {
         super(tile);
+        recompute();
     }
 
     @Override
     public void save(CompoundTag tag, HolderLookup.Provider registries) {
         ListTag list = new ListTag();
-        for (Map.Entry<UpgradeType, Integer> entry : upgrades.entrySet()) {
+        for (UpgradeType type : TYPES) {
+            int count = counts[type.ordinal()];
+            if (count <= 0)
+                continue;
             CompoundTag upgradeTag = new CompoundTag();
-            upgradeTag.putString("Type", entry.getKey().name());
-            upgradeTag.putInt("Count", entry.getValue());
+            upgradeTag.putString("Type", type.name());
+            upgradeTag.putInt("Count", count);
             list.add(upgradeTag);
         }
         tag.put("Upgrades", list);
@@ -40,7 +80,7 @@ public class UpgradeComponent extends AlienComponent {
 
     @Override
     public void load(CompoundTag tag, HolderLookup.Provider registries) {
-        upgrades.clear();
+        Arrays.fill(counts, 0);
         if (tag.contains("Upgrades", Tag.TAG_LIST)) {
             ListTag list = tag.getList("Upgrades", Tag.TAG_COMPOUND);
             for (int i = 0; i < list.size(); i++) {
@@ -48,34 +88,47 @@ public class UpgradeComponent extends AlienComponent {
                 try {
                     UpgradeType type = UpgradeType.valueOf(upgradeTag.getString("Type"));
                     int count = upgradeTag.getInt("Count");
-                    upgrades.put(type, Math.min(count, type.getMaxStack()));
+                    counts[type.ordinal()] = Math.max(0, Math.min(count, type.getMaxStack()));
                 } catch (IllegalArgumentException ignored) {
                 }
             }
         }
+        recompute();
     }
 
     public int getUpgradeCount(UpgradeType type) {
-        return upgrades.getOrDefault(type, 0);
+        return counts[type.ordinal()];
     }
 
     public void setUpgradeCount(UpgradeType type, int count) {
         int finalCount = Math.max(0, Math.min(count, type.getMaxStack()));
-        if (finalCount == 0) {
-            upgrades.remove(type);
-        } else {
-            upgrades.put(type, finalCount);
+        if (counts[type.ordinal()] == finalCount)
+            return;
+        counts[type.ordinal()] = finalCount;
+        recompute();
+        if (tile != null)
+            tile.markDirty();
+    }
+
+    private void recompute() {
+        for (UpgradeType type : TYPES) {
+            multipliers[type.ordinal()] = POWERS[type.ordinal()][counts[type.ordinal()]];
         }
+        // speed makes it more expensive, energy makes it cheaper
+        int speed = counts[UpgradeType.SPEED.ordinal()];
+        int energy = counts[UpgradeType.ENERGY.ordinal()];
+        energyMultiplier = ENERGY_POWERS[speed - energy + ENERGY_OFFSET];
+
+        double speedFactor = multipliers[UpgradeType.SPEED.ordinal()] * multipliers[UpgradeType.OVERCLOCK.ordinal()];
+        processingSpeed = (int) Math.min(Integer.MAX_VALUE,
+                Math.round(speedFactor * ProcessingComponent.PROGRESS_ONE));
     }
 
     /**
      * Calculates the scaled multiplier: BASE_MULT ^ COUNT.
      */
     public double getMultiplier(UpgradeType type) {
-        int count = getUpgradeCount(type);
-        if (count <= 0)
-            return 1.0;
-        return Math.pow(type.getMultiplier(), count);
+        return multipliers[type.ordinal()];
     }
 
     /**
@@ -83,9 +136,15 @@ public class UpgradeComponent extends AlienComponent {
      * Mekanism logic: Math.pow(BaseMult, speed - energy).
      */
     public double getEnergyMultiplier() {
-        int speed = getUpgradeCount(UpgradeType.SPEED);
-        int energy = getUpgradeCount(UpgradeType.ENERGY);
-        // speed makes it more expensive, energy makes it cheaper
-        return Math.pow(UpgradeType.SPEED.getMultiplier(), speed - energy);
+        return energyMultiplier;
+    }
+
+    /**
+     * Progress gained per tick by a {@link ProcessingComponent}, in fixed-point
+     * units of {@link ProcessingComponent#PROGRESS_ONE} (SPEED × OVERCLOCK).
+     * Pass {@code upgrades::getProcessingSpeed} as its speed supplier.
+     */
+    public int getProcessingSpeed() {
+        return processingSpeed;
     }
 }
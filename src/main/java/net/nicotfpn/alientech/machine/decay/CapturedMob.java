@@ -0,0 +1,65 @@
+package net.nicotfpn.alientech.machine.decay;
+
+import net.minecraft.world.entity.EntityType;
+import net.nicotfpn.alientech.item.data.StoredMob;
+import net.nicotfpn.alientech.util.ModTags;
+
+/**
+ * Mob held by a Decay Chamber, with its identity resolved once.
+ * <p>
+ * The entity type comes straight from the {@link StoredMob} snapshot and the
+ * {@link ModTags.EntityTypes#DECAY_IMMUNE} verdict is evaluated when the mob
+ * is captured or loaded. Per-tick code reads {@link #decayImmune()} — no
+ * string parsing or registry access. Tag reloads bump
+ * {@link #tagGeneration()}; the owner swaps in {@link #refreshTags()} when it
+ * notices a stale record.
+ *
+ * @param mob           captured mob snapshot (health at capture drives decay time and biomass)
+ * @param decayImmune   whether the type is in the decay-immune tag
+ * @param tagGeneration tag generation the verdict was computed against
+ */
+public record CapturedMob(StoredMob mob, boolean decayImmune, int tagGeneration) {
+
+    // Bumped on every tag reload (TagsUpdatedEvent)
+    private static volatile int currentTagGeneration = 0;
+
+    /**
+     * Resolve the immunity verdict of a captured mob.
+     */
+    public static CapturedMob of(StoredMob mob) {
+        return new CapturedMob(mob, isImmune(mob.type()), currentTagGeneration);
+    }
+
+    public EntityType<?> type() {
+        return mob.type();
+    }
+
+    public float maxHealth() {
+        return mob.health();
+    }
+
+    /**
+     * @return true if tags were reloaded since the verdict was computed
+     */
+    public boolean isStale() {
+        return tagGeneration != currentTagGeneration;
+    }
+
+    /**
+     * Same mob with the immunity verdict re-evaluated against current tags.
+     */
+    public CapturedMob refreshTags() {
+        return of(mob);
+    }
+
+    private static boolean isImmune(EntityType<?> type) {
+        return type.is(ModTags.EntityTypes.DECAY_IMMUNE);
+    }
+
+    /**
+     * Invalidate every verdict (called after a tag reload).
+     */
+    public static void onTagsReloaded() {
+        currentTagGeneration++;
+    }
+}
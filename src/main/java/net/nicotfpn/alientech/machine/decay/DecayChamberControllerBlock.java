@@ -13,13 +13,10 @@ import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
 import net.minecraft.world.phys.BlockHitResult;
-import net.nicotfpn.alientech.block.entity.ModBlockEntities;
 import net.nicotfpn.alientech.item.custom.PocketDimensionalPrisonItem;
 import net.nicotfpn.alientech.util.EntityStorageUtil;
 import org.jetbrains.annotations.NotNull;
@@ -65,16 +62,6 @@ public class DecayChamberControllerBlock extends BaseEntityBlock {
         return new DecayChamberControllerBlockEntity(pos, state);
     }
 
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level, @NotNull BlockState state,
-            @NotNull BlockEntityType<T> type) {
-        if (level.isClientSide())
-            return null;
-        return createTickerHelper(type, ModBlockEntities.DECAY_CHAMBER_CONTROLLER_BE.get(),
-                (lvl, pos, st, be) -> DecayChamberControllerBlockEntity.tickServer(lvl, pos, st, be));
-    }
-
     // ==================== Interaction ====================
 
     @Override
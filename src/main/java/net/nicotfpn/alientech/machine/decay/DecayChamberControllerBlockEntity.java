@@ -2,38 +2,51 @@ package net.nicotfpn.alientech.machine.decay;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.Connection;
 import net.minecraft.network.chat.Component;
-import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.entity.EntityType;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.Containers;
 import net.minecraft.world.MenuProvider;
 import net.neoforged.neoforge.items.IItemHandler;
-import net.nicotfpn.alientech.Config;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.BakedConfig;
 import net.nicotfpn.alientech.block.ModBlocks;
 import net.nicotfpn.alientech.block.entity.ModBlockEntities;
+import net.nicotfpn.alientech.client.EntityPreviewCache;
 import net.nicotfpn.alientech.entropy.EntropyStorage;
 import net.nicotfpn.alientech.item.ModItems;
+import net.nicotfpn.alientech.item.data.StoredMob;
 import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
 import net.nicotfpn.alientech.machine.core.component.EntropyComponent;
 import net.nicotfpn.alientech.machine.core.component.InventoryComponent;
-import net.nicotfpn.alientech.machine.core.component.ProcessingComponent;
 import net.nicotfpn.alientech.machine.core.component.SideConfigComponent;
 import net.nicotfpn.alientech.machine.core.component.AutoTransferComponent;
+import net.nicotfpn.alientech.metrics.AlienMetrics;
 import net.nicotfpn.alientech.screen.DecayChamberMenu;
 import net.nicotfpn.alientech.util.EntityStorageUtil;
-import net.nicotfpn.alientech.util.ModTags;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Refactored Decay Chamber Controller using AAA ECS-Like Architecture.
+ * <p>
+ * Decays up to {@link #MAX_LANES} mobs in parallel: one {@link DecayLane} per
+ * valid chamber column (see {@link DecayChamberStructure#countChambers}).
+ * Mobs accepted beyond the number of valid columns wait in the upper lanes
+ * and move down as soon as a working lane frees up. Fuel, entropy and the
+ * output slot are shared by every lane.
  */
 public class DecayChamberControllerBlockEntity extends AlienMachineBlockEntity implements MenuProvider {
 
@@ -43,31 +56,37 @@ public class DecayChamberControllerBlockEntity extends AlienMachineBlockEntity i
     public static final int OUTPUT_SLOT = 2;
     private static final int SLOT_COUNT = 3;
     private static final int ENTROPY_CAPACITY = 10000;
+    // Uma lane por coluna possível (4 direções horizontais)
+    public static final int MAX_LANES = 4;
 
     // ==================== Components ====================
     public final InventoryComponent inventoryComponent;
     public final EntropyComponent entropyComponent;
-    public final ProcessingComponent processingComponent;
     public final SideConfigComponent sideConfig;
     public final AutoTransferComponent autoTransfer;
 
-    // ==================== Legacy State ====================
-    private MobDecayState decayState = MobDecayState.EMPTY;
-    private float mobMaxHealth = 0f;
-    private CompoundTag mobData = null;
+    // ==================== Decay Lanes ====================
+    // Lanes [0, activeLanes) têm coluna válida; as demais são fila de espera
+    private final DecayLane[] lanes = new DecayLane[MAX_LANES];
 
+    private static final String KEY_LANES = "Lanes";
+    // Formato antigo (um único mob), lido apenas para migração
     private static final String KEY_DECAY_STATE = "DecayState";
+    private static final String KEY_STORED_MOB = "StoredMob";
     private static final String KEY_MOB_DATA = "MobData";
     private static final String KEY_MOB_MAX_HEALTH = "MobMaxHealth";
+    private static final String KEY_LEGACY_ENTITY_TYPE = "StoredEntityType";
+    private static final String KEY_LEGACY_PROCESSING = "Processing";
 
-    // ==================== Display Entity Cache ====================
+    // ==================== Client Display Sync ====================
+    // Só o mob exibido vai para o cliente (update tag enxuta, não as lanes)
+    private static final String KEY_DISPLAY_MOB = "DisplayMob";
+    // Cliente: mob recebido do servidor; servidor: último mob enviado
     @Nullable
-    private LivingEntity cachedDisplayEntity = null;
-    @Nullable
-    private CompoundTag lastMobData = null;
+    private StoredMob displayMob = null;
 
     // ==================== Structure Cache ====================
-    private boolean structureValid = false;
+    private int activeLanes = 0;
     private boolean structureDirty = true;
 
     // ==================== Legacy Entropy wrapper ====================
@@ -80,12 +99,11 @@ public class DecayChamberControllerBlockEntity extends AlienMachineBlockEntity i
 
         this.inventoryComponent = new InventoryComponent(this, SLOT_COUNT);
         this.entropyComponent = new EntropyComponent(this, ENTROPY_CAPACITY);
-        this.processingComponent = new ProcessingComponent(this, this::getCalculatedMaxProgress,
-                this::onProcessComplete);
+        for (int i = 0; i < MAX_LANES; i++)
+            this.lanes[i] = new DecayLane();
 
         registerComponent(this.inventoryComponent);
         registerComponent(this.entropyComponent);
-        registerComponent(this.processingComponent);
 
         this.sideConfig = new SideConfigComponent(this);
         registerComponent(this.sideConfig);
@@ -98,7 +116,7 @@ public class DecayChamberControllerBlockEntity extends AlienMachineBlockEntity i
 
         // Dummy wrapper adapting the new EntropyComponent state into the old Capability
         // interface requests
-        this.legacyEntropyWrapper = new EntropyStorage(ENTROPY_CAPACITY, 0, 0, false, true, this::setChanged) {
+        this.legacyEntropyWrapper = new EntropyStorage(ENTROPY_CAPACITY, 0, 0, false, true, this::markDirty) {
             @Override
             public long getEntropy() {
                 return entropyComponent.getEntropyStored();
@@ -137,64 +155,123 @@ public class DecayChamberControllerBlockEntity extends AlienMachineBlockEntity i
         };
     }
 
-    private int getCalculatedMaxProgress() {
-        int configMultiplier = Config.DECAY_CHAMBER_TICKS_PER_HP.get();
-        return Math.max(20, (int) (mobMaxHealth * configMultiplier));
+    private static int getMaxProgress(DecayLane lane) {
+        int configMultiplier = BakedConfig.get().decayChamberTicksPerHp();
+        return Math.max(20, (int) (lane.maxHealth() * configMultiplier));
     }
 
-    private void onProcessComplete() {
-        int biomassCount = Math.max(1, (int) (mobMaxHealth * Config.DECAY_CHAMBER_BIOMASS_PER_HP.get()));
+    private static ItemStack getBiomass(DecayLane lane) {
+        int biomassCount = Math.max(1, (int) (lane.maxHealth() * BakedConfig.get().decayChamberBiomassPerHp()));
         biomassCount = Math.min(biomassCount, 64);
+        return new ItemStack(ModItems.ENTROPY_BIOMASS.get(), biomassCount);
+    }
 
-        ItemStack biomass = new ItemStack(ModItems.ENTROPY_BIOMASS.get(), biomassCount);
-        inventoryComponent.getHandler().insertItem(OUTPUT_SLOT, biomass, false);
+    /**
+     * Completes a lane only if its whole biomass fits in the shared output
+     * slot; otherwise the lane stays at max progress and retries next tick.
+     *
+     * @return true if the lane was consumed
+     */
+    private boolean tryProcessComplete(DecayLane lane) {
+        IItemHandler handler = inventoryComponent.getHandler();
+        ItemStack biomass = getBiomass(lane);
+        if (!handler.insertItem(OUTPUT_SLOT, biomass, true).isEmpty())
+            return false; // Sem espaço para todo o biomass desta lane: aguarda
+
+        ItemStack remainder = handler.insertItem(OUTPUT_SLOT, biomass, false);
+        if (!remainder.isEmpty() && level != null) {
+            // Simulação e inserção divergiram: nunca descartar o excedente
+            Containers.dropItemStack(level, worldPosition.getX() + 0.5, worldPosition.getY() + 1.0,
+                    worldPosition.getZ() + 0.5, remainder);
+        }
 
-        decayState = MobDecayState.CONSUMED;
-        processingComponent.setWorking(false);
-        setChanged();
+        lane.state = MobDecayState.CONSUMED;
+        markDirty();
+        return true;
     }
 
     @Override
     public void tickServer() {
-        // Main logic flow handled before Component Tick Intervals step in
-        if (decayState == MobDecayState.CAPTURED) {
-            decayState = MobDecayState.STABILIZED;
-            setChanged();
-        } else if (decayState == MobDecayState.STABILIZED) {
-            if (structureDirty)
-                revalidateStructure();
-            if (structureValid) {
-                decayState = MobDecayState.DECAYING;
-                processingComponent.setWorking(true); // Engages the processing component tick loop
-                setChanged();
+        if (structureDirty)
+            revalidateStructure();
+
+        boolean anyDecaying = false;
+        boolean fuelled = activeLanes > 0 && fuelCheck();
+        BakedConfig config = BakedConfig.get();
+
+        for (int i = 0; i < MAX_LANES; i++) {
+            DecayLane lane = lanes[i];
+            boolean hasColumn = i < activeLanes;
+
+            if (lane.state == MobDecayState.CAPTURED) {
+                lane.state = MobDecayState.STABILIZED;
+                markDirty();
+            } else if (lane.state == MobDecayState.STABILIZED) {
+                if (hasColumn) {
+                    lane.state = MobDecayState.DECAYING;
+                    markDirty();
+                }
+            } else if (lane.state == MobDecayState.CONSUMED) {
+                lane.clear();
+                markDirty();
             }
-        } else if (decayState == MobDecayState.CONSUMED) {
-            resetToEmpty();
-        }
 
-        if (decayState == MobDecayState.DECAYING) {
-            // Check output space constraints before advancing
-            ItemStack outputStack = inventoryComponent.getHandler().getStackInSlot(OUTPUT_SLOT);
-            if (outputStack.getCount() >= outputStack.getMaxStackSize() || !structureValid || !fuelCheck()) {
-                processingComponent.setWorking(false);
-            } else {
-                processingComponent.setWorking(true);
-
-                // Advanced Mechanic: Immune mobs still generate entropy but pause physical
-                // decay progress
-                if (isCurrentMobDecayImmune()) {
-                    processingComponent.setProgress(0); // Constant reset so it never dies
-                    entropyComponent.addEntropy((long) (Config.DECAY_CHAMBER_BASE_ENTROPY_PER_TICK.get()
-                            * Config.ALIEN_ENTROPY_MULTIPLIER.get()));
-                } else if (processingComponent.isWorking()) {
-                    entropyComponent.addEntropy(Config.DECAY_CHAMBER_BASE_ENTROPY_PER_TICK.get());
-                }
+            if (lane.state != MobDecayState.DECAYING || !hasColumn || !fuelled)
+                continue;
+
+            // Advanced Mechanic: Immune mobs still generate entropy but pause physical
+            // decay progress
+            if (lane.isDecayImmune()) {
+                // Check output space constraints before advancing (saída compartilhada)
+                ItemStack outputStack = inventoryComponent.getHandler().getStackInSlot(OUTPUT_SLOT);
+                if (outputStack.getCount() >= outputStack.getMaxStackSize())
+                    continue;
+                anyDecaying = true;
+                lane.progress = 0; // Constant reset so it never dies
+                entropyComponent.addEntropy((long) (config.decayChamberBaseEntropyPerTick()
+                        * config.alienEntropyMultiplier()));
+                continue;
+            }
+
+            int maxProgress = getMaxProgress(lane);
+            if (lane.progress < maxProgress) {
+                anyDecaying = true;
+                entropyComponent.addEntropy(config.decayChamberBaseEntropyPerTick());
+                lane.progress++;
+            }
+            // Lane completa fica parada em maxProgress até o biomass caber na saída
+            if (lane.progress >= maxProgress) {
+                lane.progress = maxProgress;
+                tryProcessComplete(lane);
             }
         }
 
+        if (anyDecaying)
+            markDirty();
+        compactLanes();
+        updateHasMobState(hasEntityInProcess());
+        syncDisplayMob();
+
         super.tickServer(); // Loops active components effectively
     }
 
+    /**
+     * Moves queued mobs from lanes without a column into free lanes that have one.
+     */
+    private void compactLanes() {
+        int waiting = activeLanes;
+        for (int i = 0; i < activeLanes; i++) {
+            if (!lanes[i].isEmpty())
+                continue;
+            while (waiting < MAX_LANES && lanes[waiting].isEmpty())
+                waiting++;
+            if (waiting >= MAX_LANES)
+                return;
+            lanes[waiting].moveTo(lanes[i]);
+            markDirty();
+        }
+    }
+
     private boolean fuelCheck() {
         ItemStack fuel = inventoryComponent.getHandler().getStackInSlot(FUEL_SLOT);
         // Requires Coal Block per tick for simple processing? Legacy used
@@ -204,44 +281,39 @@ public class DecayChamberControllerBlockEntity extends AlienMachineBlockEntity i
     }
 
     public boolean acceptMob(ItemStack prisonStack) {
-        if (decayState != MobDecayState.EMPTY || !EntityStorageUtil.hasStoredMob(prisonStack))
+        if (!EntityStorageUtil.hasStoredMob(prisonStack))
             return false;
 
         revalidateStructure();
-        if (!structureValid)
+        if (activeLanes == 0)
             return false;
 
-        this.mobData = EntityStorageUtil.getStoredNBT(prisonStack);
-        this.mobMaxHealth = EntityStorageUtil.getStoredHealth(prisonStack);
-
-        EntityType<?> entityType = EntityStorageUtil.getStoredEntityType(prisonStack);
-        if (entityType != null && this.mobData != null) {
-            this.mobData.putString("StoredEntityType", BuiltInRegistries.ENTITY_TYPE.getKey(entityType).toString());
+        DecayLane free = null;
+        for (DecayLane lane : lanes) {
+            if (lane.isEmpty()) {
+                free = lane;
+                break;
+            }
         }
+        if (free == null)
+            return false; // Todas as lanes e a fila ocupadas
 
-        this.decayState = MobDecayState.CAPTURED;
-        this.processingComponent.setWorking(false);
-        this.processingComponent.resetProgress();
+        StoredMob stored = EntityStorageUtil.getStoredMob(prisonStack);
+        if (stored == null)
+            return false;
+        free.accept(CapturedMob.of(stored));
 
         EntityStorageUtil.clearStoredMob(prisonStack);
         updateHasMobState(true);
-        setChanged();
+        markDirty();
         return true;
     }
 
-    private void resetToEmpty() {
-        mobData = null;
-        mobMaxHealth = 0f;
-        decayState = MobDecayState.EMPTY;
-        processingComponent.resetProgress();
-        processingComponent.setWorking(false);
-        updateHasMobState(false);
-        setChanged();
-    }
-
     private void revalidateStructure() {
         if (level != null) {
-            structureValid = DecayChamberStructure.isValid(level, worldPosition, ModBlocks.DECAY_CHAMBER.get());
+            long start = AlienMetrics.DECAY_CHAMBER_VALIDATION.start();
+            activeLanes = DecayChamberStructure.countChambers(level, worldPosition, ModBlocks.DECAY_CHAMBER.get());
+            AlienMetrics.DECAY_CHAMBER_VALIDATION.stop(start);
             structureDirty = false;
         }
     }
@@ -260,47 +332,123 @@ public class DecayChamberControllerBlockEntity extends AlienMachineBlockEntity i
         }
     }
 
-    private boolean isCurrentMobDecayImmune() {
-        if (mobData == null)
-            return false;
-        String typeId = mobData.getString("StoredEntityType");
-        return ResourceLocation.tryParse(typeId) != null &&
-                BuiltInRegistries.ENTITY_TYPE.getOptional(ResourceLocation.parse(typeId))
-                        .map(t -> t.is(ModTags.EntityTypes.DECAY_IMMUNE)).orElse(false);
+    /**
+     * Lane shown in the GUI: the first one decaying, else the first occupied one.
+     */
+    @Nullable
+    private DecayLane getDisplayLane() {
+        DecayLane occupied = null;
+        for (DecayLane lane : lanes) {
+            if (lane.state == MobDecayState.DECAYING && lane.mob != null)
+                return lane;
+            if (occupied == null && lane.isOccupied())
+                occupied = lane;
+        }
+        return occupied;
+    }
+
+    public int getDisplayProgress() {
+        DecayLane lane = getDisplayLane();
+        return lane != null ? lane.progress : 0;
+    }
+
+    public int getDisplayMaxProgress() {
+        DecayLane lane = getDisplayLane();
+        return lane != null ? getMaxProgress(lane) : 0;
+    }
+
+    /**
+     * @return number of lanes currently backed by a valid chamber column
+     */
+    public int getActiveLanes() {
+        return activeLanes;
     }
 
+    @Nullable
+    private StoredMob getDisplayMob() {
+        DecayLane lane = getDisplayLane();
+        return lane != null && lane.mob != null ? lane.mob.mob() : null;
+    }
+
+    /**
+     * Sends a block update when the displayed mob changes (server side).
+     */
+    private void syncDisplayMob() {
+        StoredMob current = getDisplayMob();
+        if (current == displayMob)
+            return;
+        displayMob = current;
+        if (level != null && !level.isClientSide())
+            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 3);
+    }
+
+    /**
+     * Client-side display entity, shared through {@link EntityPreviewCache}.
+     */
     @Nullable
     public LivingEntity getEntityForDisplay() {
-        if (mobData == null)
-            return null;
-        if (!mobData.equals(lastMobData)) {
-            lastMobData = mobData.copy();
-            cachedDisplayEntity = EntityStorageUtil.reconstructEntity(level, mobData);
+        return level != null && level.isClientSide() ? EntityPreviewCache.get(level, displayMob) : null;
+    }
+
+    @Nullable
+    @Override
+    public Packet<ClientGamePacketListener> getUpdatePacket() {
+        return ClientboundBlockEntityDataPacket.create(this);
+    }
+
+    @Override
+    public @NotNull CompoundTag getUpdateTag(@NotNull HolderLookup.Provider provider) {
+        CompoundTag tag = new CompoundTag();
+        StoredMob current = getDisplayMob();
+        if (current != null) {
+            StoredMob.CODEC.encodeStart(provider.createSerializationContext(NbtOps.INSTANCE), current)
+                    .ifSuccess(encoded -> tag.put(KEY_DISPLAY_MOB, encoded));
         }
-        return cachedDisplayEntity;
+        return tag;
+    }
+
+    @Override
+    public void handleUpdateTag(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
+        readDisplayMob(tag, provider);
+    }
+
+    @Override
+    public void onDataPacket(@NotNull Connection connection, @NotNull ClientboundBlockEntityDataPacket packet,
+            @NotNull HolderLookup.Provider provider) {
+        readDisplayMob(packet.getTag(), provider);
+    }
+
+    private void readDisplayMob(CompoundTag tag, HolderLookup.Provider provider) {
+        displayMob = tag.contains(KEY_DISPLAY_MOB)
+                ? StoredMob.CODEC.parse(provider.createSerializationContext(NbtOps.INSTANCE), tag.get(KEY_DISPLAY_MOB))
+                        .result().orElse(null)
+                : null;
     }
 
     @Override
     public void saveAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
         super.saveAdditional(tag, provider); // Saves standard ECS Components mapping
 
-        tag.putInt(KEY_DECAY_STATE, decayState.ordinal());
-        tag.putFloat(KEY_MOB_MAX_HEALTH, mobMaxHealth);
-        if (mobData != null)
-            tag.put(KEY_MOB_DATA, mobData);
+        ListTag laneList = new ListTag();
+        for (DecayLane lane : lanes)
+            laneList.add(lane.save(provider));
+        tag.put(KEY_LANES, laneList);
     }
 
     @Override
     public void loadAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
         super.loadAdditional(tag, provider);
 
-        // Custom Phase 2 Migrations and backwards NBT safety
-        if (tag.contains(KEY_DECAY_STATE)) {
-            decayState = MobDecayState.values()[tag.getInt(KEY_DECAY_STATE)];
-            mobMaxHealth = tag.getFloat(KEY_MOB_MAX_HEALTH);
-            mobData = tag.contains(KEY_MOB_DATA) ? tag.getCompound(KEY_MOB_DATA) : null;
+        for (DecayLane lane : lanes)
+            lane.clear();
+        if (tag.contains(KEY_LANES, Tag.TAG_LIST)) {
+            ListTag laneList = tag.getList(KEY_LANES, Tag.TAG_COMPOUND);
+            for (int i = 0; i < Math.min(laneList.size(), MAX_LANES); i++)
+                lanes[i].load(laneList.getCompound(i), provider);
+        } else if (tag.contains(KEY_DECAY_STATE)) {
+            // Custom Phase 2 Migrations and backwards NBT safety: single mob → lane 0
+            loadLegacyMob(tag, provider, lanes[0]);
         }
-
         // Migrate Legacy Entropy tag over from old AbstractMachine logic to new ECS
         // Component namespace!
         if (tag.contains("Entropy") && !tag.contains("Components")) {
@@ -309,6 +457,28 @@ public class DecayChamberControllerBlockEntity extends AlienMachineBlockEntity i
         }
     }
 
+    private static void loadLegacyMob(CompoundTag tag, HolderLookup.Provider provider, DecayLane lane) {
+        StoredMob stored = null;
+        if (tag.contains(KEY_STORED_MOB)) {
+            stored = StoredMob.CODEC.parse(provider.createSerializationContext(NbtOps.INSTANCE), tag.get(KEY_STORED_MOB))
+                    .resultOrPartial(error -> AlienTech.LOGGER.warn("Failed to load Decay Chamber mob: {}", error))
+                    .orElse(null);
+        } else if (tag.contains(KEY_MOB_DATA)) {
+            CompoundTag mobData = tag.getCompound(KEY_MOB_DATA);
+            stored = EntityStorageUtil.fromLegacy(mobData.getString(KEY_LEGACY_ENTITY_TYPE),
+                    tag.getFloat(KEY_MOB_MAX_HEALTH), mobData);
+        }
+        if (stored == null)
+            return;
+
+        lane.accept(CapturedMob.of(stored));
+        int state = tag.getInt(KEY_DECAY_STATE);
+        lane.state = MobDecayState.values()[Math.clamp(state, 0, MobDecayState.values().length - 1)];
+        // Progresso ficava no antigo ProcessingComponent ("Components" → "Processing")
+        lane.progress = Math.max(0, tag.getCompound("Components").getCompound(KEY_LEGACY_PROCESSING)
+                .getInt("Progress"));
+    }
+
     // ==================== Old Native Framework Exos ====================
     public IItemHandler getOutputInventory() {
         return inventoryComponent.getHandler();
@@ -319,7 +489,11 @@ public class DecayChamberControllerBlockEntity extends AlienMachineBlockEntity i
     }
 
     public boolean hasEntityInProcess() {
-        return decayState != MobDecayState.EMPTY && decayState != MobDecayState.CONSUMED && mobData != null;
+        for (DecayLane lane : lanes) {
+            if (lane.isOccupied())
+                return true;
+        }
+        return false;
     }
 
     @Nullable
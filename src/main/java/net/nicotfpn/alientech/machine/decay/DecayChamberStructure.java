@@ -21,32 +21,6 @@ public final class DecayChamberStructure {
         // Static utility class
     }
 
-    /**
-     * Validate that the controller position has a valid chamber structure.
-     *
-     * @param level         the world
-     * @param controllerPos the controller block position
-     * @param chamberBlock  the expected chamber block type
-     * @return true if at least one valid 2-high chamber column exists adjacent to
-     *         the controller
-     */
-    public static boolean isValid(Level level, BlockPos controllerPos, Block chamberBlock) {
-        // Check all 4 horizontal directions for a 2-high chamber column
-        BlockPos[] horizontalOffsets = {
-                controllerPos.north(),
-                controllerPos.south(),
-                controllerPos.east(),
-                controllerPos.west()
-        };
-
-        for (BlockPos base : horizontalOffsets) {
-            if (isChamberColumn(level, base, chamberBlock)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Check if a position has a 2-block-high column of chamber blocks.
      */
@@ -57,7 +31,8 @@ public final class DecayChamberStructure {
 
     /**
      * Count the number of valid chamber columns adjacent to the controller.
-     * More chambers = faster decay rate (future expansion).
+     * Each column backs one parallel decay lane of the controller; the
+     * structure is valid when the count is greater than zero.
      */
     public static int countChambers(Level level, BlockPos controllerPos, Block chamberBlock) {
         int count = 0;
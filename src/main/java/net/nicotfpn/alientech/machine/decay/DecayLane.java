@@ -0,0 +1,104 @@
+package net.nicotfpn.alientech.machine.decay;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtOps;
+import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.item.data.StoredMob;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * One decay slot of a Decay Chamber controller: a captured mob, its
+ * {@link MobDecayState} and its own decay progress.
+ * <p>
+ * The controller owns one lane per possible chamber column and ticks those
+ * backed by a valid column; energy (fuel), entropy and the output slot are
+ * shared by all lanes.
+ */
+final class DecayLane {
+
+    private static final String KEY_STATE = "State";
+    private static final String KEY_PROGRESS = "Progress";
+    private static final String KEY_STORED_MOB = "StoredMob";
+
+    MobDecayState state = MobDecayState.EMPTY;
+    @Nullable
+    CapturedMob mob = null;
+    int progress = 0;
+
+    boolean isEmpty() {
+        return mob == null || state == MobDecayState.EMPTY;
+    }
+
+    /**
+     * @return true while the lane holds a mob that has not been consumed yet
+     */
+    boolean isOccupied() {
+        return state != MobDecayState.EMPTY && state != MobDecayState.CONSUMED && mob != null;
+    }
+
+    void accept(CapturedMob captured) {
+        mob = captured;
+        state = MobDecayState.CAPTURED;
+        progress = 0;
+    }
+
+    void clear() {
+        mob = null;
+        state = MobDecayState.EMPTY;
+        progress = 0;
+    }
+
+    /**
+     * Move this lane's contents into {@code target} and clear this one.
+     */
+    void moveTo(DecayLane target) {
+        target.mob = mob;
+        target.state = state;
+        target.progress = progress;
+        clear();
+    }
+
+    boolean isDecayImmune() {
+        CapturedMob current = mob;
+        if (current == null)
+            return false;
+        if (current.isStale()) {
+            // Tags recarregados: reavalia uma vez
+            current = current.refreshTags();
+            mob = current;
+        }
+        return current.decayImmune();
+    }
+
+    float maxHealth() {
+        return mob != null ? mob.maxHealth() : 0f;
+    }
+
+    // ==================== NBT ====================
+
+    CompoundTag save(HolderLookup.Provider provider) {
+        CompoundTag tag = new CompoundTag();
+        tag.putInt(KEY_STATE, state.ordinal());
+        tag.putInt(KEY_PROGRESS, progress);
+        if (mob != null) {
+            StoredMob.CODEC.encodeStart(provider.createSerializationContext(NbtOps.INSTANCE), mob.mob())
+                    .ifSuccess(encoded -> tag.put(KEY_STORED_MOB, encoded));
+        }
+        return tag;
+    }
+
+    void load(CompoundTag tag, HolderLookup.Provider provider) {
+        clear();
+        StoredMob stored = tag.contains(KEY_STORED_MOB)
+                ? StoredMob.CODEC.parse(provider.createSerializationContext(NbtOps.INSTANCE), tag.get(KEY_STORED_MOB))
+                        .resultOrPartial(error -> AlienTech.LOGGER.warn("Failed to load Decay Chamber mob: {}", error))
+                        .orElse(null)
+                : null;
+        if (stored == null)
+            return;
+        mob = CapturedMob.of(stored);
+        state = MobDecayState.values()[Math.clamp(tag.getInt(KEY_STATE), 0, MobDecayState.values().length - 1)];
+        progress = Math.max(0, tag.getInt(KEY_PROGRESS));
+    }
+}
@@ -53,7 +53,7 @@ public class EntropyReservoirBlockEntity extends AlienMachineBlockEntity impleme
 
     public void setOwner(UUID ownerId) {
         this.ownerId = ownerId;
-        setChanged();
+        markDirty();
     }
 
     public UUID getOwner() {
@@ -78,7 +78,7 @@ public class EntropyReservoirBlockEntity extends AlienMachineBlockEntity impleme
                     // We extract all we can from the local buffer and push to the network
                     network.insertEntropy(localEntropy, level.getGameTime());
                     entropyComponent.setEntropyStored(0); // Emptied local buffer
-                    setChanged();
+                    markDirty();
                 }
             }
         }
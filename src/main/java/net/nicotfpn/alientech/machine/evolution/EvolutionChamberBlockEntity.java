@@ -4,27 +4,33 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.entity.EntityTypeTest;
 import net.minecraft.world.phys.AABB;
+import net.nicotfpn.alientech.BakedConfig;
 import net.nicotfpn.alientech.Config;
 import net.nicotfpn.alientech.block.entity.ModBlockEntities;
 import net.nicotfpn.alientech.block.entity.base.AlienBlockEntity;
 import net.nicotfpn.alientech.entropy.EntropyStorage;
 import net.nicotfpn.alientech.entropy.IEntropyHandler;
 import net.nicotfpn.alientech.evolution.PlayerEvolutionData;
+import net.nicotfpn.alientech.metrics.TickProfiler;
 import net.nicotfpn.alientech.util.CapabilityUtils;
 import net.nicotfpn.alientech.util.SafeNBT;
 import net.nicotfpn.alientech.util.StateValidator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Evolution Chamber Block Entity — evolves players to higher evolution stages.
  * <p>
@@ -55,9 +61,14 @@ public class EvolutionChamberBlockEntity extends AlienBlockEntity {
     // Scan throttle — player detection only every N ticks
     private static final int PLAYER_SCAN_INTERVAL = 10;
 
+    private static final EntityTypeTest<Entity, ServerPlayer> PLAYER_TEST = EntityTypeTest.forClass(ServerPlayer.class);
+
     // Cached player reference (cleared on removal)
     @Nullable
     private ServerPlayer cachedPlayer = null;
+    // Caixa de detecção fixa (worldPosition não muda), criada uma vez
+    @Nullable
+    private AABB detectionBox = null;
 
     // ==================== Constructor ====================
 
@@ -124,7 +135,7 @@ public class EvolutionChamberBlockEntity extends AlienBlockEntity {
         }
 
         int currentStage = data.getEvolutionStage();
-        int maxStage = Config.MAX_EVOLUTION_STAGE.get();
+        int maxStage = BakedConfig.get().maxEvolutionStage();
 
         // Check if player can evolve further
         if (currentStage >= maxStage) {
@@ -154,8 +165,9 @@ public class EvolutionChamberBlockEntity extends AlienBlockEntity {
         }
 
         // Get required progress and entropy cost
-        java.util.List<? extends Integer> ticksList = Config.EVOLUTION_CHAMBER_TICKS_PER_STAGE.get();
-        java.util.List<? extends Integer> costList = Config.EVOLUTION_CHAMBER_ENTROPY_COST.get();
+        BakedConfig config = BakedConfig.get();
+        java.util.List<Integer> ticksList = config.evolutionTicksPerStage();
+        java.util.List<Integer> costList = config.evolutionEntropyCost();
 
         if (targetStage < 0 || targetStage >= ticksList.size() || targetStage >= costList.size()) {
             // Invalid stage - reset
@@ -246,6 +258,10 @@ public class EvolutionChamberBlockEntity extends AlienBlockEntity {
 
     /**
      * Detect if a player is standing directly on top of this block.
+     * <p>
+     * Re-checks the cached player first; otherwise queries the entity sections
+     * covering the detection box, so the cost does not depend on how many
+     * players are online.
      * 
      * @return the player if detected, null otherwise
      */
@@ -255,25 +271,38 @@ public class EvolutionChamberBlockEntity extends AlienBlockEntity {
             return null;
         }
 
-        // Detection AABB: X/Z center ±0.5, Y from block top to block top + 2
-        double x = worldPosition.getX() + 0.5;
-        double y = worldPosition.getY() + 1.0;
-        double z = worldPosition.getZ() + 0.5;
-
-        AABB detectionBox = new AABB(
-                x - 0.5, y, z - 0.5,
-                x + 0.5, y + 2.0, z + 0.5);
-
-        // Find players in detection box
-        if (level instanceof ServerLevel serverLevel) {
-            for (ServerPlayer player : serverLevel.players()) {
-                if (player.isAlive() && !player.isSpectator() && detectionBox.contains(player.position())) {
-                    return player;
-                }
-            }
+        AABB box = getDetectionBox();
+
+        // Caminho rápido: o mesmo jogador continua em cima do bloco
+        ServerPlayer cached = cachedPlayer;
+        if (cached != null && cached.level() == level && isOnTop(cached, box)) {
+            return cached;
         }
 
-        return null;
+        // Find players in detection box (entity sections, not the player list)
+        List<ServerPlayer> found = new ArrayList<>(1);
+        level.getEntities(PLAYER_TEST, box, player -> isOnTop(player, box), found, 1);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    private static boolean isOnTop(ServerPlayer player, AABB box) {
+        return !player.isRemoved() && player.isAlive() && !player.isSpectator() && box.contains(player.position());
+    }
+
+    private AABB getDetectionBox() {
+        AABB box = detectionBox;
+        if (box == null) {
+            // Detection AABB: X/Z center ±0.5, Y from block top to block top + 2
+            double x = worldPosition.getX() + 0.5;
+            double y = worldPosition.getY() + 1.0;
+            double z = worldPosition.getZ() + 0.5;
+
+            box = new AABB(
+                    x - 0.5, y, z - 0.5,
+                    x + 0.5, y + 2.0, z + 0.5);
+            detectionBox = box;
+        }
+        return box;
     }
 
     // ==================== State Validation ====================
@@ -283,7 +312,7 @@ public class EvolutionChamberBlockEntity extends AlienBlockEntity {
      * Ensures all values are within valid ranges.
      */
     public void validateState() {
-        int maxStage = Config.MAX_EVOLUTION_STAGE.get();
+        int maxStage = BakedConfig.get().maxEvolutionStage();
 
         // Validate target stage
         int oldTarget = targetStage;
@@ -293,7 +322,7 @@ public class EvolutionChamberBlockEntity extends AlienBlockEntity {
         }
 
         // Validate progress
-        java.util.List<? extends Integer> ticksList = Config.EVOLUTION_CHAMBER_TICKS_PER_STAGE.get();
+        java.util.List<Integer> ticksList = BakedConfig.get().evolutionTicksPerStage();
         if (targetStage >= 0 && targetStage < ticksList.size()) {
             int maxProgress = ticksList.get(targetStage);
             int oldProgress = progress;
@@ -374,7 +403,9 @@ public class EvolutionChamberBlockEntity extends AlienBlockEntity {
             return;
         }
         if (blockEntity instanceof EvolutionChamberBlockEntity chamber) {
+            long profiled = TickProfiler.begin();
             chamber.onUpdateServer();
+            TickProfiler.endBlockEntity(chamber, profiled);
         }
     }
 
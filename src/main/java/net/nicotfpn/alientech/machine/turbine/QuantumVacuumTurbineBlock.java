@@ -6,10 +6,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
-import net.nicotfpn.alientech.block.entity.ModBlockEntities;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -41,17 +38,6 @@ public class QuantumVacuumTurbineBlock extends BaseEntityBlock {
         return new QuantumVacuumTurbineBlockEntity(pos, state);
     }
 
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level, @NotNull BlockState state,
-            @NotNull BlockEntityType<T> type) {
-        if (level.isClientSide())
-            return null;
-        return createTickerHelper(type, ModBlockEntities.QUANTUM_VACUUM_TURBINE_BE.get(),
-                (lvl, pos, st, be) -> net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity.tickServer(lvl, pos,
-                        st, be));
-    }
-
     @Override
     public void onRemove(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos,
             @NotNull BlockState newState, boolean moved) {
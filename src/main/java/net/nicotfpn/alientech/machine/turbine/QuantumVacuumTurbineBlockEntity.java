@@ -11,6 +11,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
+import net.nicotfpn.alientech.BakedConfig;
 import net.nicotfpn.alientech.Config;
 import net.nicotfpn.alientech.block.entity.ModBlockEntities;
 import net.nicotfpn.alientech.item.ModItems;
@@ -21,6 +22,7 @@ import net.nicotfpn.alientech.machine.core.component.SideConfigComponent;
 import net.nicotfpn.alientech.machine.core.component.AutoTransferComponent;
 import net.nicotfpn.alientech.network.sideconfig.CapabilityType;
 import net.nicotfpn.alientech.network.sideconfig.IOSideMode;
+import net.nicotfpn.alientech.pyramid.TurbineRegistry;
 import net.nicotfpn.alientech.screen.QuantumVacuumTurbineMenu;
 import net.nicotfpn.alientech.util.SafeNBT;
 import net.nicotfpn.alientech.util.StateValidator;
@@ -95,7 +97,7 @@ public class QuantumVacuumTurbineBlockEntity extends AlienMachineBlockEntity imp
 
     public void setOwner(UUID ownerId) {
         this.ownerId = ownerId;
-        setChanged();
+        markDirty();
     }
 
     public UUID getOwner() {
@@ -112,11 +114,11 @@ public class QuantumVacuumTurbineBlockEntity extends AlienMachineBlockEntity imp
             return;
 
         // === Boost Expiry ===
+        // Boost é transitório (renovado pela pirâmide): não marca a máquina como alterada
         if (boostTicksRemaining > 0) {
             boostTicksRemaining--;
         } else if (pyramidBoostMultiplier > 1.0f) {
             pyramidBoostMultiplier = 1.0f;
-            setChanged();
         }
 
         // === Fuel Consumption ===
@@ -131,24 +133,24 @@ public class QuantumVacuumTurbineBlockEntity extends AlienMachineBlockEntity imp
                 // Only burn if we have space for energy
                 if (energyComponent.getEnergyStorage().getEnergyStored() < energyComponent.getEnergyStorage()
                         .getMaxEnergyStored()) {
-                    maxBurnTime = Config.QVT_BURN_TIME_PER_GRAVITON.get();
+                    maxBurnTime = BakedConfig.get().qvtBurnTimePerGraviton();
                     burnTime = maxBurnTime;
                     fuel.shrink(1);
-                    setChanged();
+                    markDirty();
                 }
             }
         }
 
         // === Energy Generation (from fuel burn) ===
         if (burnTime > 0) {
-            int baseFE = Config.QVT_FE_PER_TICK.get();
+            int baseFE = BakedConfig.get().qvtFePerTick();
             if (baseFE > 0) {
                 float boost = Math.max(1.0f, pyramidBoostMultiplier);
                 int generated = (int) Math.min((long) baseFE * (long) boost, Integer.MAX_VALUE);
                 energyComponent.getEnergyStorage().setEnergy(
                         Math.min(energyComponent.getEnergyStorage().getEnergyStored() + generated,
                                 energyComponent.getEnergyStorage().getMaxEnergyStored()));
-                setChanged();
+                markDirty();
             }
         }
 
@@ -158,8 +160,21 @@ public class QuantumVacuumTurbineBlockEntity extends AlienMachineBlockEntity imp
         }
     }
 
+    /**
+     * Nothing burning, nothing to burn, nothing to push, no boost to expire.
+     * Fuel insertion and pyramid boosts wake the turbine.
+     */
+    @Override
+    protected boolean isIdle() {
+        return burnTime <= 0
+                && boostTicksRemaining <= 0 && pyramidBoostMultiplier <= 1.0f
+                && energyComponent.getEnergyStorage().getEnergyStored() <= 0
+                && inventoryComponent.getHandler().getStackInSlot(0).isEmpty()
+                && !hasActiveComponents();
+    }
+
     private void pushEnergyToNeighbors() {
-        int pushRate = Config.QVT_MAX_PUSH_PER_TICK.get();
+        int pushRate = BakedConfig.get().qvtMaxPushPerTick();
         if (pushRate <= 0)
             return;
 
@@ -172,9 +187,7 @@ public class QuantumVacuumTurbineBlockEntity extends AlienMachineBlockEntity imp
                 continue;
             }
 
-            var cap = level.getCapability(
-                    net.neoforged.neoforge.capabilities.Capabilities.EnergyStorage.BLOCK,
-                    worldPosition.relative(dir), dir.getOpposite());
+            var cap = getNeighborEnergy(dir);
 
             if (cap != null && cap.canReceive()) {
                 int toSend = Math.min(pushRate, energyComponent.getEnergyStorage().getEnergyStored());
@@ -216,7 +229,7 @@ public class QuantumVacuumTurbineBlockEntity extends AlienMachineBlockEntity imp
         if (multiplier >= pyramidBoostMultiplier) {
             pyramidBoostMultiplier = multiplier;
             boostTicksRemaining = BOOST_EXPIRY_TICKS;
-            setChanged();
+            wakeUp();
         }
     }
 
@@ -264,6 +277,24 @@ public class QuantumVacuumTurbineBlockEntity extends AlienMachineBlockEntity imp
         }
     }
 
+    // ==================== Turbine Registry ====================
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level != null && !level.isClientSide()) {
+            TurbineRegistry.get(level).register(this);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        if (level != null && !level.isClientSide()) {
+            TurbineRegistry.get(level).unregister(this);
+        }
+        super.setRemoved();
+    }
+
     // ==================== Block Removal ====================
 
     public void drops() {
@@ -0,0 +1,207 @@
+package net.nicotfpn.alientech.metrics;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
+import net.nicotfpn.alientech.machine.core.MachineTickScheduler;
+import net.nicotfpn.alientech.network.cable.CableNetworkManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Runtime metrics registry for every AlienTech subsystem.
+ * <p>
+ * Metrics are plain static fields so call sites cost one channel check while
+ * disabled. Channels are toggled at runtime with {@code /alientech metrics};
+ * {@link #dump()} writes the current values to
+ * {@code <gameDir>/alientech/metrics/} as JSON and CSV.
+ */
+public final class AlienMetrics {
+
+    private static final List<Metric> METRICS = new ArrayList<>();
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+
+    private static Instant since = Instant.now();
+
+    private AlienMetrics() {
+        // Static registry
+    }
+
+    // ==================== Energy / Entropy ====================
+
+    /** FE moved by cable networks and machine push/pull helpers. */
+    public static final Counter FE_MOVED = counter("fe_moved", MetricChannel.ENERGY);
+
+    /** Entropy moved by cable networks and {@code EntropyTransaction}. */
+    public static final Counter ENTROPY_MOVED = counter("entropy_moved", MetricChannel.ENTROPY);
+
+    public static final Gauge CABLE_NETWORKS = gauge("cable_networks", MetricChannel.ENERGY,
+            () -> sumLevels(level -> CableNetworkManager.get(level).getNetworkCount()));
+
+    // ==================== Machines ====================
+
+    public static final Counter MACHINE_TICKS = counter("machine_ticks", MetricChannel.MACHINE);
+
+    public static final TimerHistogram MACHINE_TICK_TIME = timer("machine_tick_time", MetricChannel.MACHINE);
+
+    public static final Gauge MACHINES_SCHEDULED = gauge("machines_scheduled", MetricChannel.MACHINE,
+            () -> sumLevels(level -> MachineTickScheduler.get(level).getScheduledCount()));
+
+    public static final Gauge MACHINES_SLEEPING = gauge("machines_sleeping", MetricChannel.MACHINE,
+            () -> sumLevels(level -> MachineTickScheduler.get(level).getSleepingCount()));
+
+    /** Persistent-state changes reported through {@code AlienMachineBlockEntity.markDirty()}. */
+    public static final Counter MACHINE_CHANGES_MARKED = counter("machine_changes_marked", MetricChannel.MACHINE);
+
+    /** {@code setChanged()} calls actually issued after per-tick coalescing. */
+    public static final Counter MACHINE_CHANGES_FLUSHED = counter("machine_changes_flushed", MetricChannel.MACHINE);
+
+    // ==================== Capabilities ====================
+
+    /** Lookups served by a {@code BlockCapabilityCache}. */
+    public static final Counter CAPABILITY_CACHED_LOOKUPS = counter("capability_cached_lookups",
+            MetricChannel.CAPABILITY);
+
+    /** Caches created (first lookup of a face). */
+    public static final Counter CAPABILITY_CACHES_CREATED = counter("capability_caches_created",
+            MetricChannel.CAPABILITY);
+
+    /** Neighbour capability changes reported to a {@code CapabilityCacheManager}. */
+    public static final Counter CAPABILITY_INVALIDATIONS = counter("capability_invalidations",
+            MetricChannel.CAPABILITY);
+
+    /** Uncached {@code level.getCapability} lookups. */
+    public static final Counter CAPABILITY_DIRECT_LOOKUPS = counter("capability_direct_lookups",
+            MetricChannel.CAPABILITY);
+
+    // ==================== Structures ====================
+
+    public static final TimerHistogram PYRAMID_VALIDATION = timer("pyramid_validation", MetricChannel.STRUCTURE);
+
+    public static final TimerHistogram DECAY_CHAMBER_VALIDATION = timer("decay_chamber_validation",
+            MetricChannel.STRUCTURE);
+
+    // ==================== Registry ====================
+
+    public static Counter counter(String name, MetricChannel channel) {
+        return register(new Counter(name, channel));
+    }
+
+    public static Gauge gauge(String name, MetricChannel channel, LongSupplier sampler) {
+        return register(new Gauge(name, channel, sampler));
+    }
+
+    public static TimerHistogram timer(String name, MetricChannel channel) {
+        return register(new TimerHistogram(name, channel));
+    }
+
+    private static synchronized <M extends Metric> M register(M metric) {
+        METRICS.add(metric);
+        return metric;
+    }
+
+    public static synchronized List<Metric> getMetrics() {
+        return Collections.unmodifiableList(new ArrayList<>(METRICS));
+    }
+
+    /**
+     * Zero every metric and restart the measurement window.
+     */
+    public static synchronized void reset() {
+        for (Metric metric : METRICS) {
+            metric.reset();
+        }
+        since = Instant.now();
+    }
+
+    public static Instant getSince() {
+        return since;
+    }
+
+    private static long sumLevels(ToLongFunction<ServerLevel> perLevel) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null)
+            return 0L;
+        long total = 0L;
+        for (ServerLevel level : server.getAllLevels()) {
+            total += perLevel.applyAsLong(level);
+        }
+        return total;
+    }
+
+    // ==================== Export ====================
+
+    /**
+     * Write every metric of an enabled channel to a timestamped JSON and CSV
+     * pair.
+     *
+     * @return the JSON file written
+     */
+    public static Path dump() throws IOException {
+        Instant now = Instant.now();
+        List<Metric> metrics = getMetrics();
+        long windowMillis = now.toEpochMilli() - since.toEpochMilli();
+
+        StringBuilder json = new StringBuilder(1024);
+        StringBuilder csv = new StringBuilder(1024);
+        json.append("{\n  \"timestamp\": \"").append(now).append("\",\n  \"since\": \"").append(since)
+                .append("\",\n  \"window_ms\": ").append(windowMillis).append(",\n  \"metrics\": [");
+        csv.append("channel,name,type,value,count,mean_ms,p50_ms,p95_ms,p99_ms,max_ms\n");
+
+        boolean first = true;
+        for (Metric metric : metrics) {
+            if (!metric.getChannel().isEnabled())
+                continue;
+            json.append(first ? "\n" : ",\n");
+            first = false;
+            json.append("    {\"channel\": \"").append(metric.getChannel().getSerializedName())
+                    .append("\", \"name\": \"").append(metric.getName())
+                    .append("\", \"type\": \"").append(metric.getType()).append('"');
+            String channel = metric.getChannel().getSerializedName();
+
+            if (metric instanceof Counter counter) {
+                json.append(", \"value\": ").append(counter.get());
+                csv.append(String.format(Locale.ROOT, "%s,%s,counter,%d,,,,,,%n", channel, metric.getName(),
+                        counter.get()));
+            } else if (metric instanceof Gauge gauge) {
+                long value = gauge.sample();
+                json.append(", \"value\": ").append(value);
+                csv.append(String.format(Locale.ROOT, "%s,%s,gauge,%d,,,,,,%n", channel, metric.getName(), value));
+            } else if (metric instanceof TimerHistogram timer) {
+                double max = timer.getMaxNanos() / 1_000_000.0;
+                json.append(String.format(Locale.ROOT,
+                        ", \"count\": %d, \"mean_ms\": %.4f, \"p50_ms\": %.4f, \"p95_ms\": %.4f,"
+                                + " \"p99_ms\": %.4f, \"max_ms\": %.4f",
+                        timer.getCount(), timer.getMeanMillis(), timer.getPercentileMillis(0.50),
+                        timer.getPercentileMillis(0.95), timer.getPercentileMillis(0.99), max));
+                csv.append(String.format(Locale.ROOT, "%s,%s,timer,,%d,%.4f,%.4f,%.4f,%.4f,%.4f%n", channel,
+                        metric.getName(), timer.getCount(), timer.getMeanMillis(), timer.getPercentileMillis(0.50),
+                        timer.getPercentileMillis(0.95), timer.getPercentileMillis(0.99), max));
+            }
+            json.append('}');
+        }
+        json.append(first ? "]\n}\n" : "\n  ]\n}\n");
+
+        Path dir = FMLPaths.GAMEDIR.get().resolve("alientech").resolve("metrics");
+        Files.createDirectories(dir);
+        String base = "metrics-" + FILE_STAMP.format(now);
+        Path jsonFile = dir.resolve(base + ".json");
+        Files.writeString(jsonFile, json, StandardCharsets.UTF_8);
+        Files.writeString(dir.resolve(base + ".csv"), csv, StandardCharsets.UTF_8);
+        return jsonFile;
+    }
+}
@@ -0,0 +1,40 @@
+package net.nicotfpn.alientech.metrics;
+
+/**
+ * Monotonic total (FE moved, ticks run, lookups made...).
+ * <p>
+ * Updated from the server thread only; {@link #add} is a no-op while the
+ * channel is disabled.
+ */
+public final class Counter extends Metric {
+
+    private long value = 0L;
+
+    Counter(String name, MetricChannel channel) {
+        super(name, channel);
+    }
+
+    public void increment() {
+        if (channel.isEnabled())
+            value++;
+    }
+
+    public void add(long amount) {
+        if (channel.isEnabled())
+            value += amount;
+    }
+
+    public long get() {
+        return value;
+    }
+
+    @Override
+    public String getType() {
+        return "counter";
+    }
+
+    @Override
+    public void reset() {
+        value = 0L;
+    }
+}
@@ -0,0 +1,36 @@
+package net.nicotfpn.alientech.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Point-in-time value, sampled only when metrics are read or dumped — never
+ * on the hot path.
+ */
+public final class Gauge extends Metric {
+
+    private final LongSupplier sampler;
+
+    Gauge(String name, MetricChannel channel, LongSupplier sampler) {
+        super(name, channel);
+        this.sampler = sampler;
+    }
+
+    public long sample() {
+        try {
+            return sampler.getAsLong();
+        } catch (Exception e) {
+            // A gauge must never break a dump (e.g. sampled while the server stops)
+            return -1L;
+        }
+    }
+
+    @Override
+    public String getType() {
+        return "gauge";
+    }
+
+    @Override
+    public void reset() {
+        // Stateless
+    }
+}
@@ -0,0 +1,33 @@
+package net.nicotfpn.alientech.metrics;
+
+/**
+ * Common shape of every entry in {@link AlienMetrics}.
+ */
+public abstract sealed class Metric permits Counter, Gauge, TimerHistogram {
+
+    protected final String name;
+    protected final MetricChannel channel;
+
+    protected Metric(String name, MetricChannel channel) {
+        this.name = name;
+        this.channel = channel;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public MetricChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Metric kind as written to the dump files.
+     */
+    public abstract String getType();
+
+    /**
+     * Discard everything recorded so far.
+     */
+    public abstract void reset();
+}
@@ -0,0 +1,46 @@
+package net.nicotfpn.alientech.metrics;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Runtime toggle for one group of metrics and debug logging.
+ * <p>
+ * Every channel starts disabled. Instrumented code only pays for a single
+ * field read while its channel is off; {@code /alientech metrics enable} turns
+ * channels on without a rebuild.
+ */
+public enum MetricChannel {
+    ENERGY,
+    ENTROPY,
+    MACHINE,
+    CAPABILITY,
+    STRUCTURE,
+    EVOLUTION,
+    ABILITY;
+
+    // Toggled by the command (server thread), read from any thread
+    private volatile boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getSerializedName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    @Nullable
+    public static MetricChannel byName(String name) {
+        for (MetricChannel channel : values()) {
+            if (channel.getSerializedName().equals(name))
+                return channel;
+        }
+        return null;
+    }
+}
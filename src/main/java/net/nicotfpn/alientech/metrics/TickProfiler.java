@@ -0,0 +1,274 @@
+package net.nicotfpn.alientech.metrics;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sampling tick profiler for AlienTech block entities, machine components and
+ * cable networks.
+ * <p>
+ * Off by default. While running, one server tick out of every
+ * {@code sampleInterval} is measured and every sample is scaled by the
+ * interval, so the totals estimate the real cost. Samples are attributed to
+ * the block entity type, the exact position, the chunk, and (for ECS machines)
+ * the component class.
+ * <p>
+ * The window is a ring of {@link #SLICES} slices; the oldest slice is cleared
+ * as the ring advances, so {@link #top} always covers roughly the last
+ * {@code windowSeconds}.
+ * <p>
+ * Usage:
+ * <pre>
+ * long start = TickProfiler.begin();
+ * ...
+ * TickProfiler.endBlockEntity(be, start);
+ * </pre>
+ * Server thread only.
+ */
+public final class TickProfiler {
+
+    public static final int SLICES = 12;
+
+    public enum Category {
+        TYPES, POSITIONS, CHUNKS, COMPONENTS;
+
+        public String getSerializedName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final Slice[] RING = new Slice[SLICES];
+    private static final Map<BlockEntityType<?>, String> TYPE_NAMES = new IdentityHashMap<>();
+
+    private static boolean running = false;
+    private static boolean sampling = false;
+    private static int sampleInterval = 1;
+    private static int sliceTicks = 100;
+    private static int currentSlice = -1;
+    private static long startedTick = 0L;
+    private static long lastTick = 0L;
+    // Fim da janela depois de stop(); os dados ficam congelados nesse tick
+    private static long stoppedTick = 0L;
+
+    static {
+        for (int i = 0; i < SLICES; i++) {
+            RING[i] = new Slice();
+        }
+    }
+
+    private TickProfiler() {
+        // Static profiler
+    }
+
+    // ==================== Control ====================
+
+    /**
+     * Start (or restart) profiling, discarding previous data.
+     *
+     * @param windowSeconds  length of the rolling window
+     * @param sampleInterval measure one server tick out of this many
+     */
+    public static void start(int windowSeconds, int sampleInterval) {
+        clear();
+        TickProfiler.sliceTicks = Math.max(1, windowSeconds * 20 / SLICES);
+        TickProfiler.sampleInterval = Math.max(1, sampleInterval);
+        TickProfiler.currentSlice = -1;
+        TickProfiler.sampling = false;
+        TickProfiler.startedTick = lastTick;
+        TickProfiler.running = true;
+    }
+
+    public static void stop() {
+        if (running)
+            stoppedTick = lastTick;
+        running = false;
+        sampling = false;
+    }
+
+    public static boolean isRunning() {
+        return running;
+    }
+
+    public static int getWindowSeconds() {
+        return sliceTicks * SLICES / 20;
+    }
+
+    public static int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Server ticks covered by the current window: the filled part of the
+     * current slice plus the older slices still in the ring. Frozen at the
+     * stop tick once profiling is stopped.
+     */
+    public static long getCoveredTicks() {
+        long end = running ? lastTick : stoppedTick;
+        long retained = (long) sliceTicks * (SLICES - 1) + end % sliceTicks + 1;
+        return Math.max(0L, Math.min(end - startedTick, retained));
+    }
+
+    private static void clear() {
+        for (Slice slice : RING) {
+            slice.clear();
+        }
+    }
+
+    /**
+     * Advance the ring and decide whether this server tick is sampled. Called
+     * once at the start of every server tick.
+     */
+    public static void onServerTick(long tickCount) {
+        lastTick = tickCount;
+        if (!running) {
+            sampling = false;
+            return;
+        }
+        int slice = (int) ((tickCount / sliceTicks) % SLICES);
+        if (slice != currentSlice) {
+            RING[slice].clear();
+            currentSlice = slice;
+        }
+        sampling = tickCount % sampleInterval == 0;
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * @return start timestamp, or {@code 0} when this tick is not sampled
+     */
+    public static long begin() {
+        return sampling ? System.nanoTime() : 0L;
+    }
+
+    public static void endBlockEntity(BlockEntity be, long start) {
+        if (start == 0L)
+            return;
+        long nanos = (System.nanoTime() - start) * sampleInterval;
+        Level level = be.getLevel();
+        if (level == null)
+            return;
+        String type = TYPE_NAMES.computeIfAbsent(be.getType(), TickProfiler::typeName);
+        record(level.dimension(), be.getBlockPos(), type, be.getType(), nanos);
+    }
+
+    /**
+     * Record a cable network tick, attributed to one of its cables.
+     */
+    public static void endNetwork(Level level, BlockPos anchor, String type, long start) {
+        if (start == 0L)
+            return;
+        long nanos = (System.nanoTime() - start) * sampleInterval;
+        record(level.dimension(), anchor, type, type, nanos);
+    }
+
+    public static void endComponent(Class<?> component, long start) {
+        if (start == 0L)
+            return;
+        long nanos = (System.nanoTime() - start) * sampleInterval;
+        RING[currentSlice].components.computeIfAbsent(component, c -> new Stat(c.getSimpleName())).add(nanos);
+    }
+
+    private static void record(ResourceKey<Level> dimension, BlockPos pos, String type, Object typeKey, long nanos) {
+        Slice slice = RING[currentSlice];
+        slice.types.computeIfAbsent(typeKey, k -> new Stat(type)).add(nanos);
+        slice.positions.computeIfAbsent(new Location(dimension, pos.asLong()),
+                k -> new Stat(type + " @ " + dimension.location() + " " + pos.toShortString())).add(nanos);
+        long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        slice.chunks.computeIfAbsent(new Location(dimension, chunk),
+                k -> new Stat("chunk " + (pos.getX() >> 4) + ", " + (pos.getZ() >> 4) + " @ " + dimension.location()))
+                .add(nanos);
+    }
+
+    private static String typeName(BlockEntityType<?> type) {
+        ResourceLocation key = BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(type);
+        return key != null ? key.toString() : type.toString();
+    }
+
+    // ==================== Reporting ====================
+
+    /**
+     * The {@code limit} most expensive entries of a category over the window,
+     * most expensive first.
+     */
+    public static List<Entry> top(Category category, int limit) {
+        Map<Object, Entry> merged = new HashMap<>();
+        for (Slice slice : RING) {
+            for (Map.Entry<?, Stat> e : slice.get(category).entrySet()) {
+                Stat stat = e.getValue();
+                merged.merge(e.getKey(), new Entry(stat.label, stat.nanos, stat.samples),
+                        (a, b) -> new Entry(a.label(), a.nanos() + b.nanos(), a.samples() + b.samples()));
+            }
+        }
+        Entry[] sorted = merged.values().toArray(new Entry[0]);
+        Arrays.sort(sorted, Comparator.comparingLong(Entry::nanos).reversed());
+        return new ArrayList<>(Arrays.asList(sorted).subList(0, Math.min(limit, sorted.length)));
+    }
+
+    /**
+     * One ranked line: estimated total nanoseconds over the window and the
+     * number of samples it is based on.
+     */
+    public record Entry(String label, long nanos, long samples) {
+
+        public double millisPerTick(long coveredTicks) {
+            return coveredTicks > 0 ? nanos / (double) coveredTicks / 1_000_000.0 : 0.0;
+        }
+    }
+
+    private record Location(ResourceKey<Level> dimension, long packed) {
+    }
+
+    private static final class Stat {
+        private final String label;
+        private long nanos;
+        private long samples;
+
+        private Stat(String label) {
+            this.label = label;
+        }
+
+        private void add(long nanos) {
+            this.nanos += nanos;
+            this.samples++;
+        }
+    }
+
+    private static final class Slice {
+        private final Map<Object, Stat> types = new HashMap<>();
+        private final Map<Location, Stat> positions = new HashMap<>();
+        private final Map<Location, Stat> chunks = new HashMap<>();
+        private final Map<Class<?>, Stat> components = new IdentityHashMap<>();
+
+        private Map<?, Stat> get(Category category) {
+            return switch (category) {
+                case TYPES -> types;
+                case POSITIONS -> positions;
+                case CHUNKS -> chunks;
+                case COMPONENTS -> components;
+            };
+        }
+
+        private void clear() {
+            types.clear();
+            positions.clear();
+            chunks.clear();
+            components.clear();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package net.nicotfpn.alientech.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Duration histogram with power-of-two microsecond buckets.
+ * <p>
+ * Usage:
+ * <pre>
+ * long start = AlienMetrics.MACHINE_TICK_TIME.start();
+ * ...
+ * AlienMetrics.MACHINE_TICK_TIME.stop(start);
+ * </pre>
+ * {@link #start()} returns {@code 0} while the channel is disabled and
+ * {@link #stop} ignores it, so a disabled timer never calls
+ * {@link System#nanoTime()}. Server thread only.
+ */
+public final class TimerHistogram extends Metric {
+
+    /**
+     * Bucket {@code i} holds samples below {@code 2^i} µs; the last bucket is
+     * open-ended (≥ ~0.5 s).
+     */
+    public static final int BUCKETS = 20;
+
+    private final long[] buckets = new long[BUCKETS];
+    private long count = 0L;
+    private long totalNanos = 0L;
+    private long maxNanos = 0L;
+
+    TimerHistogram(String name, MetricChannel channel) {
+        super(name, channel);
+    }
+
+    public long start() {
+        return channel.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    public void stop(long start) {
+        if (start != 0L)
+            record(System.nanoTime() - start);
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0L)
+            return;
+        long micros = nanos / 1000L;
+        int bucket = micros == 0L ? 0 : 64 - Long.numberOfLeadingZeros(micros);
+        buckets[Math.min(bucket, BUCKETS - 1)]++;
+        count++;
+        totalNanos += nanos;
+        if (nanos > maxNanos)
+            maxNanos = nanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanMillis() {
+        return count > 0L ? totalNanos / (double) count / 1_000_000.0 : 0.0;
+    }
+
+    /**
+     * Upper bound in ms of the bucket holding the {@code p} quantile.
+     */
+    public double getPercentileMillis(double p) {
+        if (count == 0L)
+            return 0.0;
+        long target = (long) Math.ceil(p * count);
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= target)
+                return i == BUCKETS - 1 ? maxNanos / 1_000_000.0 : (1L << i) / 1000.0;
+        }
+        return maxNanos / 1_000_000.0;
+    }
+
+    @Override
+    public String getType() {
+        return "timer";
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(buckets, 0L);
+        count = 0L;
+        totalNanos = 0L;
+        maxNanos = 0L;
+    }
+}
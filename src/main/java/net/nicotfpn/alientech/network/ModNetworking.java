@@ -16,7 +16,6 @@ import net.nicotfpn.alientech.network.packet.ClientboundSideConfigPacket;
 import net.nicotfpn.alientech.network.packet.ServerboundSideConfigPacket;
 import net.nicotfpn.alientech.machine.core.AlienMachineBlockEntity;
 import net.nicotfpn.alientech.machine.core.component.SideConfigComponent;
-import net.minecraft.nbt.CompoundTag;
 
 /**
  * Registers and handles all network packets for AlienTech mod.
@@ -99,15 +98,13 @@ public class ModNetworking {
 
             BlockEntity blockEntity = player.level().getBlockEntity(packet.machinePos());
             if (blockEntity instanceof AlienMachineBlockEntity machine) {
-                if (machine.hasComponent(SideConfigComponent.class)) {
-                    SideConfigComponent config = machine.getComponent(SideConfigComponent.class);
+                if (machine.hasComponent(SideConfigComponent.TYPE)) {
+                    SideConfigComponent config = machine.getComponent(SideConfigComponent.TYPE);
                     config.setMode(packet.face(), packet.capType(), packet.newMode());
-                    machine.setChanged();
+                    machine.markDirty();
 
-                    // Sincronizar de volta para o cliente
-                    CompoundTag tag = new CompoundTag();
-                    config.save(tag, player.level().registryAccess());
-                    context.reply(new ClientboundSideConfigPacket(packet.machinePos(), tag));
+                    // Sincronizar de volta para o cliente (um varlong)
+                    context.reply(new ClientboundSideConfigPacket(packet.machinePos(), config.getPacked()));
                 }
             }
         });
@@ -119,9 +116,8 @@ public class ModNetworking {
             if (player != null && player.level() != null) {
                 BlockEntity blockEntity = player.level().getBlockEntity(packet.machinePos());
                 if (blockEntity instanceof AlienMachineBlockEntity machine) {
-                    if (machine.hasComponent(SideConfigComponent.class)) {
-                        machine.getComponent(SideConfigComponent.class).load(packet.fullSideConfigNBT(),
-                                player.level().registryAccess());
+                    if (machine.hasComponent(SideConfigComponent.TYPE)) {
+                        machine.getComponent(SideConfigComponent.TYPE).setPacked(packet.packedSideConfig());
                     }
                 }
             }
@@ -192,7 +188,7 @@ public class ModNetworking {
             Player player = context.player();
             if (player != null && player.containerMenu instanceof AlienContainerMenu alienMenu) {
                 if (alienMenu.containerId == packet.containerId()) {
-                    alienMenu.handleSync(packet.payloads());
+                    alienMenu.handleSync(packet);
                 }
             }
         });
@@ -5,46 +5,58 @@ import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 
-import java.util.ArrayList;
-import java.util.List;
-
-public record SyncDataPacket(int containerId, List<SyncPayload> payloads) implements CustomPacketPayload {
+/**
+ * Server -> client GUI sync. Carries only the slots that changed, as parallel
+ * primitive arrays (no per-value objects).
+ * <p>
+ * Wire format per entry: {@code varint(index << 1 | intFlag)} followed by a
+ * varint (int slots) or varlong (long slots).
+ */
+public record SyncDataPacket(int containerId, int[] indices, long[] values, boolean[] intSlots)
+        implements CustomPacketPayload {
 
     public static final Type<SyncDataPacket> TYPE = new Type<>(
             ResourceLocation.fromNamespaceAndPath("alientech", "sync_data"));
 
     public static final StreamCodec<FriendlyByteBuf, SyncDataPacket> STREAM_CODEC = StreamCodec.ofMember(
-            SyncDataPacket::write, SyncDataPacket::new);
-
-    public SyncDataPacket(FriendlyByteBuf buffer) {
-        this(buffer.readVarInt(), readPayloads(buffer));
-    }
+            SyncDataPacket::write, SyncDataPacket::read);
 
-    private static List<SyncPayload> readPayloads(FriendlyByteBuf buffer) {
+    private static SyncDataPacket read(FriendlyByteBuf buffer) {
+        int containerId = buffer.readVarInt();
         int count = buffer.readVarInt();
-        List<SyncPayload> list = new ArrayList<>(count);
+        int[] indices = new int[count];
+        long[] values = new long[count];
+        boolean[] intSlots = new boolean[count];
         for (int i = 0; i < count; i++) {
-            list.add(new SyncPayload(buffer.readVarInt(), buffer.readVarLong()));
+            int header = buffer.readVarInt();
+            indices[i] = header >>> 1;
+            intSlots[i] = (header & 1) != 0;
+            values[i] = intSlots[i] ? buffer.readVarInt() : buffer.readVarLong();
         }
-        return list;
+        return new SyncDataPacket(containerId, indices, values, intSlots);
     }
 
     public void write(FriendlyByteBuf buffer) {
         buffer.writeVarInt(containerId);
         // Critical AAA feature: Explicit Index Count Header limits loop allocation
-        buffer.writeVarInt(payloads.size());
-
-        for (SyncPayload payload : payloads) {
-            buffer.writeVarInt(payload.index());
-            buffer.writeVarLong(payload.value()); // Heavy VarLong compression
+        buffer.writeVarInt(indices.length);
+
+        for (int i = 0; i < indices.length; i++) {
+            buffer.writeVarInt(indices[i] << 1 | (intSlots[i] ? 1 : 0));
+            if (intSlots[i]) {
+                buffer.writeVarInt((int) values[i]);
+            } else {
+                buffer.writeVarLong(values[i]); // Heavy VarLong compression
+            }
         }
     }
 
+    public int size() {
+        return indices.length;
+    }
+
     @Override
     public Type<? extends CustomPacketPayload> type() {
         return TYPE;
     }
-
-    public record SyncPayload(int index, long value) {
-    }
 }
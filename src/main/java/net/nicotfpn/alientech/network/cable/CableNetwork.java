@@ -0,0 +1,240 @@
+package net.nicotfpn.alientech.network.cable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A connected group of cables of the same kind, ticked once per level tick by
+ * {@link CableNetworkManager}.
+ * <p>
+ * This class owns the graph bookkeeping (membership, merges, lazy splits and
+ * endpoint invalidation). Subclasses own the transport logic and any shared
+ * contents (e.g. an FE buffer) through the protected hooks.
+ * <p>
+ * Server thread only.
+ *
+ * @param <C> the cable block entity type
+ */
+public abstract class CableNetwork<C extends BlockEntity & NetworkedCable> {
+
+    protected final ServerLevel level;
+    protected final Map<BlockPos, C> cables = new HashMap<>();
+
+    private boolean endpointsDirty = true;
+    private boolean splitPending = false;
+    private boolean removed = false;
+
+    protected CableNetwork(ServerLevel level) {
+        this.level = level;
+    }
+
+    // ==================== Subclass Hooks ====================
+
+    /**
+     * @return a new, empty network of the same kind in the same level (used for
+     *         splits)
+     */
+    protected abstract CableNetwork<C> createEmpty();
+
+    /**
+     * Re-resolve the list of real producer/acceptor endpoints. Called lazily
+     * before the next tick after topology or neighbour capabilities changed.
+     */
+    protected abstract void rebuildEndpoints();
+
+    /**
+     * One transport step for the whole network.
+     */
+    protected abstract void tickNetwork();
+
+    /** Membership gained (capacity bookkeeping). */
+    protected void onCableAttached(C cable) {
+    }
+
+    /** Membership lost (capacity bookkeeping). */
+    protected void onCableDetached(C cable) {
+    }
+
+    /** A cable joined from the world — absorb whatever it persisted. */
+    protected void onCableLoaded(C cable) {
+    }
+
+    /** A cable is leaving the world (broken or unloaded) — drop its share. */
+    protected void onCableUnloaded(C cable) {
+    }
+
+    /** {@code other} was merged into this network; take over its contents. */
+    protected void absorbContents(CableNetwork<C> other) {
+    }
+
+    /**
+     * This network was split; {@code parts} already hold their cables. Hand each
+     * part its share of the contents.
+     */
+    protected void distributeContents(List<CableNetwork<C>> parts) {
+    }
+
+    // ==================== Queries ====================
+
+    public Collection<C> getCables() {
+        return Collections.unmodifiableCollection(cables.values());
+    }
+
+    public int size() {
+        return cables.size();
+    }
+
+    /**
+     * Position of an arbitrary member cable (profiler attribution), or
+     * {@code null} when empty.
+     */
+    @Nullable
+    public BlockPos getAnchorPos() {
+        return cables.isEmpty() ? null : cables.keySet().iterator().next();
+    }
+
+    public boolean isEmpty() {
+        return cables.isEmpty();
+    }
+
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    public boolean contains(BlockPos pos) {
+        return cables.containsKey(pos);
+    }
+
+    /**
+     * Flag the endpoint list as stale. Safe to call from capability
+     * invalidation listeners.
+     */
+    public void markEndpointsDirty() {
+        endpointsDirty = true;
+    }
+
+    // ==================== Graph Operations (manager only) ====================
+
+    final void attach(C cable) {
+        cables.put(cable.getBlockPos(), cable);
+        cable.setNetwork(this);
+        onCableAttached(cable);
+        endpointsDirty = true;
+    }
+
+    final void detach(C cable) {
+        if (cables.remove(cable.getBlockPos()) != null) {
+            onCableDetached(cable);
+            if (cable.getNetwork() == this)
+                cable.setNetwork(null);
+            endpointsDirty = true;
+        }
+    }
+
+    final void join(C cable) {
+        attach(cable);
+        onCableLoaded(cable);
+    }
+
+    final void leave(C cable) {
+        if (!cables.containsKey(cable.getBlockPos()))
+            return;
+        onCableUnloaded(cable);
+        detach(cable);
+        splitPending = !cables.isEmpty();
+    }
+
+    final void merge(CableNetwork<C> other) {
+        if (other == this || other.removed)
+            return;
+        for (C cable : new ArrayList<>(other.cables.values())) {
+            other.detach(cable);
+            attach(cable);
+        }
+        absorbContents(other);
+        splitPending |= other.splitPending;
+        other.markRemoved();
+    }
+
+    final void markRemoved() {
+        removed = true;
+    }
+
+    /**
+     * Partition this network into connected components if a removal may have
+     * disconnected it. The largest component stays in this network.
+     *
+     * @return the newly created networks (empty if no split happened)
+     */
+    final List<CableNetwork<C>> splitIfNeeded() {
+        if (!splitPending)
+            return List.of();
+        splitPending = false;
+
+        List<List<C>> components = findComponents();
+        if (components.size() <= 1)
+            return List.of();
+
+        components.sort((a, b) -> Integer.compare(b.size(), a.size()));
+        List<CableNetwork<C>> parts = new ArrayList<>(components.size() - 1);
+        for (int i = 1; i < components.size(); i++) {
+            CableNetwork<C> part = createEmpty();
+            for (C cable : components.get(i)) {
+                detach(cable);
+                part.attach(cable);
+            }
+            parts.add(part);
+        }
+        distributeContents(parts);
+        return parts;
+    }
+
+    private List<List<C>> findComponents() {
+        List<List<C>> components = new ArrayList<>();
+        Set<BlockPos> unvisited = new HashSet<>(cables.keySet());
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+
+        while (!unvisited.isEmpty()) {
+            BlockPos start = unvisited.iterator().next();
+            unvisited.remove(start);
+            queue.add(start);
+            List<C> component = new ArrayList<>();
+
+            while (!queue.isEmpty()) {
+                BlockPos pos = queue.poll();
+                component.add(cables.get(pos));
+                for (Direction dir : Direction.values()) {
+                    BlockPos next = pos.relative(dir);
+                    if (unvisited.remove(next)) {
+                        queue.add(next);
+                    }
+                }
+            }
+            components.add(component);
+        }
+        return components;
+    }
+
+    final void tick() {
+        if (removed || cables.isEmpty())
+            return;
+        if (endpointsDirty) {
+            endpointsDirty = false;
+            rebuildEndpoints();
+        }
+        tickNetwork();
+    }
+}
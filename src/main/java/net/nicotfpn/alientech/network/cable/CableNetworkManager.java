@@ -0,0 +1,166 @@
+package net.nicotfpn.alientech.network.cable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.nicotfpn.alientech.metrics.TickProfiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Per-level registry and ticker for every {@link CableNetwork}.
+ * <p>
+ * Cables call {@link #onCableLoaded} from onLoad() and
+ * {@link #onCableRemoved} from setRemoved() (which also covers chunk unload).
+ * Placement merges adjacent networks immediately; removals only flag the
+ * network, and the connectivity check runs once on the next tick — so a
+ * chunk unloading hundreds of cables costs one flood fill, not hundreds.
+ * <p>
+ * Server thread only.
+ */
+public final class CableNetworkManager {
+
+    private static final WeakHashMap<Level, CableNetworkManager> INSTANCES = new WeakHashMap<>();
+
+    private final ServerLevel level;
+    private final List<CableNetwork<?>> networks = new ArrayList<>();
+
+    private CableNetworkManager(ServerLevel level) {
+        this.level = Objects.requireNonNull(level);
+    }
+
+    /**
+     * Obtain the manager for a given server level. Creates a single in-memory
+     * instance per-level.
+     */
+    public static CableNetworkManager get(ServerLevel level) {
+        synchronized (INSTANCES) {
+            return INSTANCES.computeIfAbsent(level, l -> new CableNetworkManager((ServerLevel) l));
+        }
+    }
+
+    /**
+     * Drop the manager of an unloading level.
+     */
+    public static void remove(Level level) {
+        synchronized (INSTANCES) {
+            INSTANCES.remove(level);
+        }
+    }
+
+    // ==================== Membership ====================
+
+    /**
+     * Attach a freshly loaded or placed cable: joins the network of an adjacent
+     * cable of the same kind, merging every other adjacent network into it, or
+     * starts a new network.
+     *
+     * @param factory creates an empty network of the cable's kind
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends BlockEntity & NetworkedCable> void onCableLoaded(C cable,
+            Function<ServerLevel, ? extends CableNetwork<C>> factory) {
+        if (cable.getNetwork() != null)
+            return;
+
+        BlockPos pos = cable.getBlockPos();
+        CableNetwork<C> target = null;
+        List<CableNetwork<C>> others = null;
+
+        for (Direction dir : Direction.values()) {
+            BlockPos neighborPos = pos.relative(dir);
+            // Never load chunks while building the graph
+            if (!level.isLoaded(neighborPos))
+                continue;
+            BlockEntity be = level.getBlockEntity(neighborPos);
+            if (be == null || be.getType() != cable.getType() || !(be instanceof NetworkedCable neighbor))
+                continue;
+            CableNetwork<C> network = (CableNetwork<C>) neighbor.getNetwork();
+            if (network == null || network.isRemoved() || network == target)
+                continue;
+
+            if (target == null) {
+                target = network;
+            } else if (network.size() > target.size()) {
+                if (others == null)
+                    others = new ArrayList<>(2);
+                others.add(target);
+                target = network;
+            } else {
+                if (others == null)
+                    others = new ArrayList<>(2);
+                if (!others.contains(network))
+                    others.add(network);
+            }
+        }
+
+        if (target == null) {
+            target = factory.apply(level);
+            networks.add(target);
+        }
+        target.join(cable);
+
+        if (others != null) {
+            for (CableNetwork<C> other : others) {
+                if (other != target)
+                    target.merge(other);
+            }
+        }
+    }
+
+    /**
+     * Detach a cable that was broken or unloaded. Connectivity of the remaining
+     * network is re-checked lazily on the next tick.
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends BlockEntity & NetworkedCable> void onCableRemoved(C cable) {
+        CableNetwork<C> network = (CableNetwork<C>) cable.getNetwork();
+        if (network == null)
+            return;
+        network.leave(cable);
+        if (network.isEmpty())
+            network.markRemoved();
+    }
+
+    /**
+     * @return number of live networks in this level
+     */
+    public int getNetworkCount() {
+        int count = 0;
+        for (CableNetwork<?> network : networks) {
+            if (!network.isRemoved())
+                count++;
+        }
+        return count;
+    }
+
+    // ==================== Ticking ====================
+
+    /**
+     * Split pending networks, then tick every live network once.
+     * Networks created by a split this tick are ticked in the same pass.
+     */
+    public void tick() {
+        // Index loop: splits append to the list while iterating
+        for (int i = 0; i < networks.size(); i++) {
+            CableNetwork<?> network = networks.get(i);
+            if (network.isRemoved())
+                continue;
+            networks.addAll(network.splitIfNeeded());
+            long profiled = TickProfiler.begin();
+            network.tick();
+            if (profiled != 0L) {
+                BlockPos anchor = network.getAnchorPos();
+                if (anchor != null)
+                    TickProfiler.endNetwork(level, anchor, network.getClass().getSimpleName(), profiled);
+            }
+        }
+        networks.removeIf(CableNetwork::isRemoved);
+    }
+}
@@ -0,0 +1,219 @@
+package net.nicotfpn.alientech.network.cable;
+
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.neoforge.energy.IEnergyStorage;
+import net.nicotfpn.alientech.block.entity.EnergyCableBlockEntity;
+import net.nicotfpn.alientech.metrics.AlienMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FE cable network — one shared buffer and one tick for every connected
+ * energy cable.
+ * <p>
+ * Buffer capacity is the sum of the member cables' tier transfer rates; every
+ * endpoint (a non-cable neighbour face exposing an energy capability) is
+ * limited to the transfer rate of the cable it touches, per tick.
+ * <p>
+ * Tick algorithm:
+ * <ol>
+ * <li>Pull from every extractable endpoint into the shared buffer</li>
+ * <li>Split the buffer evenly across receiving endpoints that did not supply
+ * energy this tick (no ping-pong through batteries)</li>
+ * </ol>
+ */
+public class EnergyCableNetwork extends CableNetwork<EnergyCableBlockEntity> {
+
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private long capacity = 0;
+    private long stored = 0;
+    private long tickCounter = 0;
+
+    public EnergyCableNetwork(ServerLevel level) {
+        super(level);
+    }
+
+    // ==================== Buffer API ====================
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getStored() {
+        return stored;
+    }
+
+    /**
+     * Insert into the shared buffer (used by the cables' exposed capability).
+     */
+    public int receive(int maxReceive, int rateLimit, boolean simulate) {
+        long accepted = Math.min(Math.min(maxReceive, rateLimit), capacity - stored);
+        if (accepted <= 0)
+            return 0;
+        if (!simulate)
+            stored += accepted;
+        return (int) accepted;
+    }
+
+    /**
+     * Extract from the shared buffer (used by the cables' exposed capability).
+     */
+    public int extract(int maxExtract, int rateLimit, boolean simulate) {
+        long extracted = Math.min(Math.min(maxExtract, rateLimit), stored);
+        if (extracted <= 0)
+            return 0;
+        if (!simulate)
+            stored -= extracted;
+        return (int) extracted;
+    }
+
+    /**
+     * Portion of the buffer attributed to one cable, proportional to its rate.
+     * Written to the cable's NBT so the buffer survives chunk unloads.
+     */
+    public int getShare(EnergyCableBlockEntity cable) {
+        if (capacity <= 0)
+            return 0;
+        return (int) Math.min(Integer.MAX_VALUE, stored * cable.getTransferRate() / capacity);
+    }
+
+    // ==================== Graph Hooks ====================
+
+    @Override
+    protected CableNetwork<EnergyCableBlockEntity> createEmpty() {
+        return new EnergyCableNetwork(level);
+    }
+
+    @Override
+    protected void onCableAttached(EnergyCableBlockEntity cable) {
+        capacity += cable.getTransferRate();
+    }
+
+    @Override
+    protected void onCableDetached(EnergyCableBlockEntity cable) {
+        capacity -= cable.getTransferRate();
+    }
+
+    @Override
+    protected void onCableLoaded(EnergyCableBlockEntity cable) {
+        stored = Math.min(capacity, stored + cable.takePendingEnergy());
+    }
+
+    @Override
+    protected void onCableUnloaded(EnergyCableBlockEntity cable) {
+        stored = Math.max(0, stored - getShare(cable));
+    }
+
+    @Override
+    protected void absorbContents(CableNetwork<EnergyCableBlockEntity> other) {
+        if (other instanceof EnergyCableNetwork energy) {
+            stored = Math.min(capacity, stored + energy.stored);
+            energy.stored = 0;
+        }
+    }
+
+    @Override
+    protected void distributeContents(List<CableNetwork<EnergyCableBlockEntity>> parts) {
+        long totalCapacity = capacity;
+        for (CableNetwork<EnergyCableBlockEntity> part : parts) {
+            totalCapacity += ((EnergyCableNetwork) part).capacity;
+        }
+        if (totalCapacity <= 0)
+            return;
+
+        long total = stored;
+        for (CableNetwork<EnergyCableBlockEntity> part : parts) {
+            EnergyCableNetwork energy = (EnergyCableNetwork) part;
+            energy.stored = total * energy.capacity / totalCapacity;
+            stored -= energy.stored;
+        }
+        stored = Math.min(stored, capacity);
+    }
+
+    @Override
+    protected void rebuildEndpoints() {
+        endpoints.clear();
+        for (EnergyCableBlockEntity cable : cables.values()) {
+            for (Direction dir : Direction.values()) {
+                // Faces touching our own cables are internal, not endpoints
+                if (cables.containsKey(cable.getBlockPos().relative(dir)))
+                    continue;
+                IEnergyStorage neighbor = cable.getNeighborEnergy(dir);
+                if (neighbor != null) {
+                    endpoints.add(new Endpoint(neighbor, cable.getTransferRate()));
+                }
+            }
+        }
+    }
+
+    // ==================== Transport ====================
+
+    @Override
+    protected void tickNetwork() {
+        int count = endpoints.size();
+        if (count == 0)
+            return;
+        tickCounter++;
+
+        // 1. Pull from producers into the shared buffer
+        for (int i = 0; i < count && stored < capacity; i++) {
+            Endpoint endpoint = endpoints.get(i);
+            if (!endpoint.storage.canExtract())
+                continue;
+            int request = (int) Math.min(endpoint.rate, capacity - stored);
+            int pulled = endpoint.storage.extractEnergy(request, false);
+            if (pulled > 0) {
+                stored += pulled;
+                endpoint.lastSuppliedTick = tickCounter;
+            }
+        }
+
+        if (stored <= 0)
+            return;
+
+        // 2. Push evenly to acceptors, rotating the start for fairness
+        int acceptors = 0;
+        for (int i = 0; i < count; i++) {
+            Endpoint endpoint = endpoints.get(i);
+            if (endpoint.lastSuppliedTick != tickCounter && endpoint.storage.canReceive())
+                acceptors++;
+        }
+        if (acceptors == 0)
+            return;
+
+        int start = (int) (tickCounter % count);
+        long moved = 0;
+        for (int n = 0; n < count && stored > 0 && acceptors > 0; n++) {
+            Endpoint endpoint = endpoints.get((start + n) % count);
+            if (endpoint.lastSuppliedTick == tickCounter || !endpoint.storage.canReceive())
+                continue;
+            long fairShare = (stored + acceptors - 1) / acceptors;
+            int offer = (int) Math.min(Math.min(fairShare, endpoint.rate), Integer.MAX_VALUE);
+            int accepted = endpoint.storage.receiveEnergy(offer, false);
+            if (accepted > 0) {
+                stored -= accepted;
+                moved += accepted;
+            }
+            acceptors--;
+        }
+        AlienMetrics.FE_MOVED.add(moved);
+    }
+
+    /**
+     * A real neighbour energy handler plus the rate of the cable face touching
+     * it. Handlers are re-resolved whenever the cable's capability cache
+     * reports an invalidation.
+     */
+    private static final class Endpoint {
+        private final IEnergyStorage storage;
+        private final int rate;
+        private long lastSuppliedTick = -1;
+
+        private Endpoint(IEnergyStorage storage, int rate) {
+            this.storage = storage;
+            this.rate = rate;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package net.nicotfpn.alientech.network.cable;
+
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.nicotfpn.alientech.BakedConfig;
+import net.nicotfpn.alientech.block.entity.EntropyCableBlockEntity;
+import net.nicotfpn.alientech.entropy.IEntropyHandler;
+import net.nicotfpn.alientech.metrics.AlienMetrics;
+import net.nicotfpn.alientech.util.AlienTechDebug;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entropy cable network — stateless conduit between every producer and
+ * consumer touching any connected entropy cable.
+ * <p>
+ * Instead of probing 6×6 source/destination pairs per cable, each network
+ * tick computes one batched distribution:
+ * <ol>
+ * <li>Simulate extraction from every producer (capped per endpoint)</li>
+ * <li>Simulate insertion into every consumer (capped per endpoint)</li>
+ * <li>Move {@code min(supply, demand)}: extract from producers in order,
+ * split evenly across consumers, roll back any remainder to producers</li>
+ * </ol>
+ * A handler that both supplies and accepts (e.g. a reservoir) only counts as
+ * a consumer when it has nothing to supply — no self-transfer.
+ */
+public class EntropyCableNetwork extends CableNetwork<EntropyCableBlockEntity> {
+
+    private static final int TICK_INTERVAL = 5;
+
+    private final List<IEntropyHandler> endpoints = new ArrayList<>();
+    // Per-endpoint scratch arrays, reused across ticks (resized on rebuild)
+    private long[] supply = new long[0];
+    private long[] demand = new long[0];
+    private long tickCounter = 0;
+
+    public EntropyCableNetwork(ServerLevel level) {
+        super(level);
+    }
+
+    // ==================== Graph Hooks ====================
+
+    @Override
+    protected CableNetwork<EntropyCableBlockEntity> createEmpty() {
+        return new EntropyCableNetwork(level);
+    }
+
+    @Override
+    protected void rebuildEndpoints() {
+        endpoints.clear();
+        for (EntropyCableBlockEntity cable : cables.values()) {
+            for (Direction dir : Direction.values()) {
+                // Faces touching our own cables are internal, not endpoints
+                if (cables.containsKey(cable.getBlockPos().relative(dir)))
+                    continue;
+                IEntropyHandler neighbor = cable.getNeighborEntropy(dir);
+                // One handler touching several cable faces is a single endpoint
+                if (neighbor != null && (neighbor.canExtract() || neighbor.canInsert())
+                        && !containsHandler(neighbor)) {
+                    endpoints.add(neighbor);
+                }
+            }
+        }
+        if (supply.length < endpoints.size()) {
+            supply = new long[endpoints.size()];
+            demand = new long[endpoints.size()];
+        }
+    }
+
+    private boolean containsHandler(IEntropyHandler handler) {
+        for (IEntropyHandler existing : endpoints) {
+            if (existing == handler)
+                return true;
+        }
+        return false;
+    }
+
+    // ==================== Transport ====================
+
+    @Override
+    protected void tickNetwork() {
+        // Throttle: same cadence and per-second throughput as the old per-cable tick
+        if (++tickCounter % TICK_INTERVAL != 0)
+            return;
+
+        int count = endpoints.size();
+        if (count < 2)
+            return;
+
+        long rate = (long) BakedConfig.get().entropyCableTransferRate() * TICK_INTERVAL;
+        if (rate <= 0L)
+            return;
+
+        // 1. Supply side
+        long totalSupply = 0L;
+        for (int i = 0; i < count; i++) {
+            IEntropyHandler handler = endpoints.get(i);
+            supply[i] = handler.canExtract() ? handler.extractEntropy(rate, true) : 0L;
+            totalSupply += supply[i];
+        }
+        if (totalSupply <= 0L)
+            return;
+
+        // 2. Demand side (suppliers are never consumers in the same batch)
+        long totalDemand = 0L;
+        int consumers = 0;
+        for (int i = 0; i < count; i++) {
+            IEntropyHandler handler = endpoints.get(i);
+            demand[i] = (supply[i] == 0L && handler.canInsert()) ? handler.insertEntropy(rate, true) : 0L;
+            if (demand[i] > 0L) {
+                totalDemand += demand[i];
+                consumers++;
+            }
+        }
+        if (totalDemand <= 0L)
+            return;
+
+        // 3. Extract exactly what consumers can take
+        long toMove = Math.min(totalSupply, totalDemand);
+        long extracted = 0L;
+        for (int i = 0; i < count && extracted < toMove; i++) {
+            if (supply[i] > 0L) {
+                extracted += endpoints.get(i).extractEntropy(Math.min(supply[i], toMove - extracted), false);
+            }
+        }
+        if (extracted <= 0L)
+            return;
+
+        // 4. Split evenly across consumers, rotating the start for fairness
+        long remaining = extracted;
+        int start = (int) ((tickCounter / TICK_INTERVAL) % count);
+        for (int n = 0; n < count && remaining > 0L && consumers > 0; n++) {
+            int i = (start + n) % count;
+            if (demand[i] <= 0L)
+                continue;
+            long fairShare = (remaining + consumers - 1) / consumers;
+            remaining -= endpoints.get(i).insertEntropy(Math.min(fairShare, demand[i]), false);
+            consumers--;
+        }
+
+        // 5. Roll back anything no consumer accepted (transaction semantics)
+        for (int i = 0; i < count && remaining > 0L; i++) {
+            if (supply[i] > 0L) {
+                remaining -= endpoints.get(i).insertEntropy(remaining, false);
+            }
+        }
+
+        AlienMetrics.ENTROPY_MOVED.add(extracted - remaining);
+        if (AlienTechDebug.ENTROPY.isEnabled()) {
+            AlienTechDebug.ENTROPY.log("Entropy network moved {} across {} endpoints", extracted - remaining, count);
+        }
+    }
+}
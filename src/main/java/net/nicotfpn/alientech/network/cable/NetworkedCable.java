@@ -0,0 +1,23 @@
+package net.nicotfpn.alientech.network.cable;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Contract for cable block entities that are grouped into a
+ * {@link CableNetwork}. Membership is managed exclusively by
+ * {@link CableNetworkManager}; cables never tick on their own.
+ */
+public interface NetworkedCable {
+
+    /**
+     * @return the network this cable currently belongs to, or null while
+     *         unloaded / client-side
+     */
+    @Nullable
+    CableNetwork<?> getNetwork();
+
+    /**
+     * Called by the network when membership changes. Never call directly.
+     */
+    void setNetwork(@Nullable CableNetwork<?> network);
+}
@@ -1,7 +1,6 @@
 package net.nicotfpn.alientech.network.packet;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -9,7 +8,11 @@ import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import net.nicotfpn.alientech.AlienTech;
 
-public record ClientboundSideConfigPacket(BlockPos machinePos, CompoundTag fullSideConfigNBT)
+/**
+ * Full side configuration of a machine after a change, as the packed bits of
+ * {@code SideConfigComponent} (one varlong).
+ */
+public record ClientboundSideConfigPacket(BlockPos machinePos, long packedSideConfig)
         implements CustomPacketPayload {
 
     public static final CustomPacketPayload.Type<ClientboundSideConfigPacket> TYPE = new CustomPacketPayload.Type<>(
@@ -18,7 +21,7 @@ public record ClientboundSideConfigPacket(BlockPos machinePos, CompoundTag fullS
     public static final StreamCodec<RegistryFriendlyByteBuf, ClientboundSideConfigPacket> STREAM_CODEC = StreamCodec
             .composite(
                     BlockPos.STREAM_CODEC, ClientboundSideConfigPacket::machinePos,
-                    ByteBufCodecs.COMPOUND_TAG, ClientboundSideConfigPacket::fullSideConfigNBT,
+                    ByteBufCodecs.VAR_LONG, ClientboundSideConfigPacket::packedSideConfig,
                     ClientboundSideConfigPacket::new);
 
     @Override
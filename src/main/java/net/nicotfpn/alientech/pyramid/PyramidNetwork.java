@@ -4,9 +4,12 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.Level;
 import net.nicotfpn.alientech.entropy.EntropyStorage;
+import net.nicotfpn.alientech.metrics.AlienMetrics;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
@@ -19,9 +22,10 @@ import java.util.WeakHashMap;
  * in their onLoad()/setRemoved()).
  * - Maintain a shared entropy buffer that machines can pull from using
  * {@link #extractEntropy(long, boolean)}.
- * - Compute current tier dynamically by querying
- * {@link PyramidStructureValidator} for
- * each registered core (highest tier wins).
+ * - Compute current tier by querying {@link PyramidStructureValidator} for
+ * each registered core (highest tier wins). Results are cached per core and
+ * per network; {@link #invalidateAt(BlockPos)} drops the cache when a block
+ * inside a registered footprint changes, so steady-state queries are O(1).
  *
  * Note: persistence to world save is intentionally left out for now (the
  * network provides API hooks `saveToTag`/`loadFromTag` for future integration
@@ -34,6 +38,12 @@ public final class PyramidNetwork {
     private final Level level;
     private final Set<BlockPos> cores = new HashSet<>();
 
+    // Tier cache (guarded by `cores`): absent entry = core needs validation,
+    // null cachedTier = network tier needs recomputation
+    private final Map<BlockPos, PyramidTier> coreTiers = new HashMap<>();
+    private PyramidTier cachedTier = null;
+    private int cacheGeneration = 0;
+
     // Shared network buffer for entropy (machines pull into their local buffers)
     private final EntropyStorage networkBuffer;
 
@@ -78,13 +88,26 @@ public final class PyramidNetwork {
         }
     }
 
+    /**
+     * Obtain the PyramidNetwork for a level only if one was already created.
+     * Used by event hooks that must not create networks as a side effect.
+     */
+    public static PyramidNetwork getIfPresent(Level level) {
+        synchronized (INSTANCES) {
+            return INSTANCES.get(level);
+        }
+    }
+
     // ========== Core registration (no chunk scanning) ==========
 
     public void registerCore(BlockPos pos) {
         if (pos == null)
             return;
         synchronized (cores) {
-            cores.add(pos.immutable());
+            BlockPos key = pos.immutable();
+            cores.add(key);
+            coreTiers.remove(key);
+            invalidateNetworkTier();
         }
     }
 
@@ -93,6 +116,8 @@ public final class PyramidNetwork {
             return;
         synchronized (cores) {
             cores.remove(pos);
+            coreTiers.remove(pos);
+            invalidateNetworkTier();
         }
     }
 
@@ -105,38 +130,127 @@ public final class PyramidNetwork {
         }
     }
 
-    // ========== Tier calculation (dynamic, highest wins) ==========
+    // ========== Tier calculation (cached, highest wins) ==========
 
     /**
-     * Computes the current PyramidTier for the level by querying every registered
-     * core and returning the highest validated tier. If no cores are registered
-     * or validation fails, returns {@link PyramidTier#NONE}.
+     * Returns the current PyramidTier for the level: the highest validated tier
+     * among registered cores, or {@link PyramidTier#NONE} if there are none.
+     * <p>
+     * Cached until a block inside a registered footprint changes (see
+     * {@link #invalidateAt(BlockPos)}) or a core registers/unregisters.
      */
     public PyramidTier getTier() {
-        PyramidTier highest = PyramidTier.NONE;
         // Copy to avoid holding lock during validation
         Set<BlockPos> snapshot;
+        int generation;
         synchronized (cores) {
+            if (cachedTier != null)
+                return cachedTier;
             snapshot = new HashSet<>(cores);
+            generation = cacheGeneration;
         }
 
+        PyramidTier highest = PyramidTier.NONE;
         for (BlockPos pos : snapshot) {
-            try {
-                PyramidTier t = PyramidStructureValidator.validate(level, pos);
-                if (t.ordinal() > highest.ordinal()) {
-                    highest = t;
-                    if (highest == PyramidTier.TIER_3) {
-                        // early exit - can't get higher
-                        break;
-                    }
+            PyramidTier t = getCoreTier(pos);
+            if (t.ordinal() > highest.ordinal()) {
+                highest = t;
+                if (highest == PyramidTier.TIER_3) {
+                    // early exit - can't get higher
+                    break;
                 }
-            } catch (Exception e) {
-                // validation failed for core: log omitted in clean build
             }
         }
+
+        synchronized (cores) {
+            // Only publish if nothing was invalidated while we were validating
+            if (generation == cacheGeneration)
+                cachedTier = highest;
+        }
         return highest;
     }
 
+    /**
+     * Returns the validated tier of a single core, running the validator only
+     * if the cached value was invalidated. Unregistered positions are
+     * validated but not cached.
+     */
+    public PyramidTier getCoreTier(BlockPos corePos) {
+        int generation;
+        synchronized (cores) {
+            PyramidTier cached = coreTiers.get(corePos);
+            if (cached != null)
+                return cached;
+            generation = cacheGeneration;
+        }
+
+        PyramidTier tier;
+        long start = AlienMetrics.PYRAMID_VALIDATION.start();
+        try {
+            tier = PyramidStructureValidator.validate(level, corePos);
+        } catch (Exception e) {
+            // validation failed for core: log omitted in clean build
+            tier = PyramidTier.NONE;
+        }
+        AlienMetrics.PYRAMID_VALIDATION.stop(start);
+
+        synchronized (cores) {
+            if (generation == cacheGeneration && cores.contains(corePos))
+                coreTiers.put(corePos.immutable(), tier);
+        }
+        return tier;
+    }
+
+    /**
+     * Drop cached tiers for every registered core whose structure footprint
+     * contains {@code changedPos}. Called from block place/break/update
+     * events; cheap when the position is not near any core.
+     */
+    public void invalidateAt(BlockPos changedPos) {
+        if (changedPos == null)
+            return;
+        synchronized (cores) {
+            boolean any = false;
+            for (BlockPos core : cores) {
+                if (PyramidStructureValidator.isInFootprint(core, changedPos)) {
+                    coreTiers.remove(core);
+                    any = true;
+                }
+            }
+            if (any)
+                invalidateNetworkTier();
+        }
+    }
+
+    /**
+     * Drop cached tiers for every registered core whose footprint overlaps the
+     * given chunk. A footprint straddling a chunk border validates as NONE
+     * while the neighbour chunk is unloaded, so its load must re-validate.
+     */
+    public void invalidateChunk(int chunkX, int chunkZ) {
+        synchronized (cores) {
+            boolean any = false;
+            for (BlockPos core : cores) {
+                int minX = (core.getX() - PyramidStructureValidator.MAX_RADIUS) >> 4;
+                int maxX = (core.getX() + PyramidStructureValidator.MAX_RADIUS) >> 4;
+                int minZ = (core.getZ() - PyramidStructureValidator.MAX_RADIUS) >> 4;
+                int maxZ = (core.getZ() + PyramidStructureValidator.MAX_RADIUS) >> 4;
+                if (chunkX >= minX && chunkX <= maxX && chunkZ >= minZ && chunkZ <= maxZ) {
+                    coreTiers.remove(core);
+                    any = true;
+                }
+            }
+            if (any)
+                invalidateNetworkTier();
+        }
+    }
+
+    // Caller must hold `cores`
+    private void invalidateNetworkTier() {
+        cachedTier = null;
+        cacheGeneration++;
+    }
+
     // ========== Network entropy buffer API ==========
 
     /**
@@ -206,6 +320,8 @@ public final class PyramidNetwork {
                 for (long l : longs) {
                     cores.add(BlockPos.of(l));
                 }
+                coreTiers.clear();
+                invalidateNetworkTier();
             }
         }
     }
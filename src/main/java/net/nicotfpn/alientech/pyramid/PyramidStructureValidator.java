@@ -23,9 +23,15 @@ import net.nicotfpn.alientech.block.ModBlocks;
  * - Never loads chunks (checks isLoaded before scanning)
  * - Maximum blocks scanned: 3×3 + 5×5 + 7×7 + 9×9 = 164 blocks
  * - Called only on structure change events, NEVER every tick
+ * (results are cached by {@link PyramidNetwork})
  */
 public final class PyramidStructureValidator {
 
+    /** Half-width of the widest layer (9×9). */
+    public static final int MAX_RADIUS = 4;
+    /** Depth of the lowest layer below the core. */
+    public static final int MAX_DEPTH = 4;
+
     private PyramidStructureValidator() {
         // Static utility
     }
@@ -82,6 +88,19 @@ public final class PyramidStructureValidator {
         return PyramidTier.TIER_1;
     }
 
+    /**
+     * Whether {@code pos} lies inside the block footprint the validator may
+     * read for a core at {@code corePos} (the core itself plus every layer
+     * below it, at the widest radius).
+     */
+    public static boolean isInFootprint(BlockPos corePos, BlockPos pos) {
+        int dy = pos.getY() - corePos.getY();
+        if (dy > 0 || dy < -MAX_DEPTH)
+            return false;
+        return Math.abs(pos.getX() - corePos.getX()) <= MAX_RADIUS
+                && Math.abs(pos.getZ() - corePos.getZ()) <= MAX_RADIUS;
+    }
+
     /**
      * Check a square layer of blocks below the core.
      *
@@ -0,0 +1,124 @@
+package net.nicotfpn.alientech.pyramid;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.nicotfpn.alientech.machine.turbine.QuantumVacuumTurbineBlockEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-level spatial index of loaded Quantum Vacuum Turbines.
+ * <p>
+ * Turbines register in their onLoad() and unregister in setRemoved() (which
+ * also runs on chunk unload). Entries are bucketed by chunk so range queries
+ * only visit chunks overlapping the query cube and only touch turbines that
+ * actually exist — no block-by-block scanning, no getBlockEntity calls.
+ * <p>
+ * Server thread only. Client levels never register anything.
+ */
+public final class TurbineRegistry {
+
+    private static final WeakHashMap<Level, TurbineRegistry> INSTANCES = new WeakHashMap<>();
+
+    private final Map<Long, Set<QuantumVacuumTurbineBlockEntity>> buckets = new HashMap<>();
+    private int size = 0;
+
+    private TurbineRegistry() {
+    }
+
+    /**
+     * Obtain the registry for a given level. Creates a single in-memory
+     * instance per-level.
+     */
+    public static TurbineRegistry get(Level level) {
+        Objects.requireNonNull(level);
+        synchronized (INSTANCES) {
+            return INSTANCES.computeIfAbsent(level, l -> new TurbineRegistry());
+        }
+    }
+
+    // ========== Registration ==========
+
+    public void register(QuantumVacuumTurbineBlockEntity turbine) {
+        if (turbine == null)
+            return;
+        long key = ChunkPos.asLong(turbine.getBlockPos());
+        if (buckets.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(turbine)) {
+            size++;
+        }
+    }
+
+    public void unregister(QuantumVacuumTurbineBlockEntity turbine) {
+        if (turbine == null)
+            return;
+        long key = ChunkPos.asLong(turbine.getBlockPos());
+        Set<QuantumVacuumTurbineBlockEntity> bucket = buckets.get(key);
+        if (bucket != null && bucket.remove(turbine)) {
+            size--;
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * @return number of turbines currently registered in this level
+     */
+    public int size() {
+        return size;
+    }
+
+    // ========== Range queries ==========
+
+    /**
+     * Visit every registered turbine inside the axis-aligned cube of the given
+     * radius around {@code center} (same shape as the old betweenClosed scan).
+     * Turbines that were removed but not yet unregistered are skipped.
+     */
+    public void forEachInRange(BlockPos center, int radius, Consumer<QuantumVacuumTurbineBlockEntity> action) {
+        if (size == 0 || radius < 0)
+            return;
+
+        int minChunkX = SectionPos.blockToSectionCoord(center.getX() - radius);
+        int maxChunkX = SectionPos.blockToSectionCoord(center.getX() + radius);
+        int minChunkZ = SectionPos.blockToSectionCoord(center.getZ() - radius);
+        int maxChunkZ = SectionPos.blockToSectionCoord(center.getZ() + radius);
+
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                Set<QuantumVacuumTurbineBlockEntity> bucket = buckets.get(ChunkPos.asLong(cx, cz));
+                if (bucket == null)
+                    continue;
+                for (QuantumVacuumTurbineBlockEntity turbine : bucket) {
+                    if (turbine.isRemoved())
+                        continue;
+                    BlockPos pos = turbine.getBlockPos();
+                    if (Math.abs(pos.getX() - center.getX()) <= radius
+                            && Math.abs(pos.getY() - center.getY()) <= radius
+                            && Math.abs(pos.getZ() - center.getZ()) <= radius) {
+                        action.accept(turbine);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Snapshot of all turbines within range of {@code center}.
+     */
+    public List<QuantumVacuumTurbineBlockEntity> getTurbinesInRange(BlockPos center, int radius) {
+        List<QuantumVacuumTurbineBlockEntity> result = new ArrayList<>();
+        forEachInRange(center, radius, result::add);
+        return result;
+    }
+}
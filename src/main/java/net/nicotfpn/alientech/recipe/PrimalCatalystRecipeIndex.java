@@ -0,0 +1,134 @@
+package net.nicotfpn.alientech.recipe;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Item → candidate recipe index for the Primal Catalyst.
+ * <p>
+ * Every recipe is filed under the items of its most selective non-empty
+ * ingredient (fewest matching items). Because matching is shapeless, a lookup
+ * gathers the candidates of each distinct input item and runs the full
+ * {@link PrimalCatalystRecipe#matches} only on those, instead of scanning
+ * every recipe of the type in the {@link RecipeManager}. Recipes whose
+ * ingredients cannot be enumerated are always checked.
+ * <p>
+ * Built lazily per {@link RecipeManager} instance (a datapack reload creates a
+ * new one) and dropped explicitly on datapack sync.
+ */
+public final class PrimalCatalystRecipeIndex {
+
+    @Nullable
+    private static volatile PrimalCatalystRecipeIndex current;
+    // Bumped whenever the index is dropped or rebuilt; lets callers spot stale cached recipes
+    private static volatile int generation = 0;
+
+    private final RecipeManager manager;
+    private final Map<Item, List<RecipeHolder<PrimalCatalystRecipe>>> byItem = new IdentityHashMap<>();
+    private final List<RecipeHolder<PrimalCatalystRecipe>> unindexed = new ArrayList<>();
+
+    private PrimalCatalystRecipeIndex(RecipeManager manager) {
+        this.manager = manager;
+        for (RecipeHolder<PrimalCatalystRecipe> holder : manager.getAllRecipesFor(ModRecipes.PRIMAL_CATALYST_TYPE.get())) {
+            ItemStack[] key = mostSelective(holder.value());
+            if (key == null) {
+                unindexed.add(holder);
+                continue;
+            }
+            for (ItemStack stack : key) {
+                List<RecipeHolder<PrimalCatalystRecipe>> list = byItem.computeIfAbsent(stack.getItem(),
+                        i -> new ArrayList<>(2));
+                if (!list.contains(holder))
+                    list.add(holder);
+            }
+        }
+    }
+
+    @Nullable
+    private static ItemStack[] mostSelective(PrimalCatalystRecipe recipe) {
+        ItemStack[] best = null;
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            if (ingredient.isEmpty())
+                continue;
+            ItemStack[] items = ingredient.getItems();
+            if (items.length == 0)
+                return null; // Not enumerable: must be checked on every lookup
+            if (best == null || items.length < best.length)
+                best = items;
+        }
+        return best;
+    }
+
+    /**
+     * Drop the index; the next lookup rebuilds it.
+     */
+    public static void invalidate() {
+        current = null;
+        generation++;
+    }
+
+    /**
+     * @return counter that changes whenever the indexed recipe set may have changed
+     */
+    public static int generation() {
+        return generation;
+    }
+
+    /**
+     * @return the recipe matching the given inputs, or null
+     */
+    @Nullable
+    public static PrimalCatalystRecipe find(Level level, PrimalCatalystRecipeInput input) {
+        RecipeManager manager = level.getRecipeManager();
+        PrimalCatalystRecipeIndex index = current;
+        if (index == null || index.manager != manager) {
+            index = new PrimalCatalystRecipeIndex(manager);
+            current = index;
+            generation++;
+        }
+        return index.lookup(input, level);
+    }
+
+    @Nullable
+    private PrimalCatalystRecipe lookup(PrimalCatalystRecipeInput input, Level level) {
+        for (int slot = 0; slot < input.size(); slot++) {
+            ItemStack stack = input.getItem(slot);
+            if (stack.isEmpty() || isDuplicate(input, slot))
+                continue;
+            List<RecipeHolder<PrimalCatalystRecipe>> candidates = byItem.get(stack.getItem());
+            if (candidates == null)
+                continue;
+            for (int i = 0; i < candidates.size(); i++) {
+                PrimalCatalystRecipe recipe = candidates.get(i).value();
+                if (recipe.matches(input, level))
+                    return recipe;
+            }
+        }
+        for (int i = 0; i < unindexed.size(); i++) {
+            PrimalCatalystRecipe recipe = unindexed.get(i).value();
+            if (recipe.matches(input, level))
+                return recipe;
+        }
+        return null;
+    }
+
+    // Same item in an earlier slot: its candidates were already tried
+    private static boolean isDuplicate(PrimalCatalystRecipeInput input, int slot) {
+        Item item = input.getItem(slot).getItem();
+        for (int i = 0; i < slot; i++) {
+            if (input.getItem(i).getItem() == item)
+                return true;
+        }
+        return false;
+    }
+}
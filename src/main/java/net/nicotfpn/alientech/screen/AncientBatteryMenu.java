@@ -67,11 +67,11 @@ public class AncientBatteryMenu extends AlienContainerMenu {
     // ==================== Energy Data ====================
 
     public long getEnergyStored() {
-        return energy.get();
+        return energy.getAsLong();
     }
 
     public long getMaxEnergy() {
-        return maxEnergy.get();
+        return maxEnergy.getAsLong();
     }
 
     public float getEnergyPercentage() {
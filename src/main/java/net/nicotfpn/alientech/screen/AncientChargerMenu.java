@@ -45,11 +45,11 @@ public class AncientChargerMenu extends AlienContainerMenu {
     }
 
     public long getEnergyStored() {
-        return energy.get();
+        return energy.getAsLong();
     }
 
     public long getMaxEnergy() {
-        return maxEnergy.get();
+        return maxEnergy.getAsLong();
     }
 
     public float getEnergyPercentage() {
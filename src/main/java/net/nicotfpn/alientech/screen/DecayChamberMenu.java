@@ -57,10 +57,10 @@ public class DecayChamberMenu extends AlienContainerMenu {
         addPlayerHotbar(inv);
 
         track(SyncableLong.create(
-                () -> (long) blockEntity.processingComponent.getProgress(),
+                () -> (long) blockEntity.getDisplayProgress(),
                 val -> this.progress = (int) val));
         track(SyncableLong.create(
-                () -> (long) blockEntity.processingComponent.getMaxProgress(),
+                () -> (long) blockEntity.getDisplayMaxProgress(),
                 val -> this.maxProgress = (int) val));
         track(SyncableLong.create(
                 () -> blockEntity.entropyComponent.getEntropyStored(),
@@ -1,8 +1,10 @@
 package net.nicotfpn.alientech.screen;
 
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.screens.inventory.InventoryScreen;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Inventory;
 import net.nicotfpn.alientech.AlienTech;
 import net.nicotfpn.alientech.client.gui.element.AlienEnergyGauge;
@@ -25,6 +27,11 @@ public class DecayChamberScreen extends net.nicotfpn.alientech.client.gui.AlienS
     private static final int PROGRESS_H = 16;
     private static final int UV_PROG_U = 176;
     private static final int UV_PROG_V = 54;
+    // Área do preview do mob (entre os gauges e o slot de entrada)
+    private static final int MOB_X1 = 30;
+    private static final int MOB_Y1 = 16;
+    private static final int MOB_X2 = 62;
+    private static final int MOB_Y2 = 68;
 
     public DecayChamberScreen(DecayChamberMenu menu, Inventory playerInventory, Component title) {
         super(menu, playerInventory, title);
@@ -86,9 +93,24 @@ public class DecayChamberScreen extends net.nicotfpn.alientech.client.gui.AlienS
             // Layer 2 & 3 are now handled by Gauges
             // Layer 4: Progress arrow remains manual
             renderProgressBar(guiGraphics, x, y);
+            renderMobPreview(guiGraphics, x, y, mouseX, mouseY);
         }
     }
 
+    private void renderMobPreview(GuiGraphics guiGraphics, int x, int y, int mouseX, int mouseY) {
+        if (!menu.hasMob())
+            return;
+        // Entidade compartilhada pelo EntityPreviewCache: nenhum trabalho de NBT por frame
+        LivingEntity entity = menu.getEntityForDisplay();
+        if (entity == null)
+            return;
+        float size = Math.max(entity.getBbHeight(), entity.getBbWidth());
+        int scale = (int) Math.clamp(40.0f / Math.max(size, 0.1f), 4.0f, 30.0f);
+        InventoryScreen.renderEntityInInventoryFollowsMouse(guiGraphics,
+                x + MOB_X1, y + MOB_Y1, x + MOB_X2, y + MOB_Y2,
+                scale, 0.0625f, mouseX, mouseY, entity);
+    }
+
     private void renderProgressBar(GuiGraphics guiGraphics, int x, int y) {
         if (menu.isCrafting()) {
             int progress = menu.getScaledProgress(); // Assumed to return 0-24
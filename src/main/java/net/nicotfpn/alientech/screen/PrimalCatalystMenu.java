@@ -11,6 +11,7 @@ import net.neoforged.neoforge.items.SlotItemHandler;
 import net.nicotfpn.alientech.block.ModBlocks;
 import net.nicotfpn.alientech.block.entity.PrimalCatalystBlockEntity;
 import net.nicotfpn.alientech.ui.sync.AlienContainerMenu;
+import net.nicotfpn.alientech.ui.sync.impl.SyncableInt;
 import net.nicotfpn.alientech.ui.sync.impl.SyncableLong;
 
 /**
@@ -26,8 +27,8 @@ public class PrimalCatalystMenu extends AlienContainerMenu {
     public final PrimalCatalystBlockEntity blockEntity;
 
     // ==================== Sync Trackers ====================
-    private final SyncableLong progress;
-    private final SyncableLong maxProgress;
+    private final SyncableInt progress;
+    private final SyncableInt maxProgress;
     private final SyncableLong energy;
     private final SyncableLong maxEnergy;
     private final SyncableLong entropy;
@@ -63,8 +64,8 @@ public class PrimalCatalystMenu extends AlienContainerMenu {
         this.addSlot(new OutputSlot(blockEntity.getItemHandler(), 4, 116, 41));
 
         // Sync Data Registration
-        this.progress = new SyncableLong(() -> (long) blockEntity.processingComponent.getProgress(), null);
-        this.maxProgress = new SyncableLong(() -> (long) blockEntity.processingComponent.getMaxProgress(), null);
+        this.progress = new SyncableInt(() -> blockEntity.processingComponent.getProgress(), null);
+        this.maxProgress = new SyncableInt(() -> blockEntity.processingComponent.getMaxProgress(), null);
         this.energy = new SyncableLong(() -> (long) blockEntity.getEnergyStorage().getEnergyStored(), null);
         this.maxEnergy = new SyncableLong(() -> (long) blockEntity.getEnergyStorage().getMaxEnergyStored(), null);
         this.entropy = new SyncableLong(() -> blockEntity.entropyComponent.getEntropyStored(), null);
@@ -85,12 +86,12 @@ public class PrimalCatalystMenu extends AlienContainerMenu {
     // ==================== Data Accessors ====================
 
     public boolean isCrafting() {
-        return progress.get() > 0;
+        return progress.getAsInt() > 0;
     }
 
     public int getScaledProgress() {
-        long p = progress.get();
-        long maxP = maxProgress.get();
+        long p = progress.getAsInt();
+        long maxP = maxProgress.getAsInt();
         int barWidth = 24; // pixel width of progress arrow (from alientech_gui_gen.py)
         return maxP != 0 && p != 0 ? (int) (p * barWidth / maxP) : 0;
     }
@@ -105,26 +106,26 @@ public class PrimalCatalystMenu extends AlienContainerMenu {
     }
 
     public int getScaledEnergy() {
-        long e = energy.get();
-        long maxE = maxEnergy.get();
+        long e = energy.getAsLong();
+        long maxE = maxEnergy.getAsLong();
         int barHeight = 44; // pixel height of energy bar (from mc_gui_generator.py)
         return maxE != 0 && e != 0 ? (int) (e * barHeight / maxE) : 0;
     }
 
     public long getEnergy() {
-        return energy.get();
+        return energy.getAsLong();
     }
 
     public long getMaxEnergy() {
-        return maxEnergy.get();
+        return maxEnergy.getAsLong();
     }
 
     public long getEntropy() {
-        return entropy.get();
+        return entropy.getAsLong();
     }
 
     public long getMaxEntropy() {
-        return maxEntropy.get();
+        return maxEntropy.getAsLong();
     }
 
     // ==================== Shift-Click Transfer ====================
@@ -11,13 +11,14 @@ import net.neoforged.neoforge.items.SlotItemHandler;
 import net.nicotfpn.alientech.block.ModBlocks;
 import net.nicotfpn.alientech.machine.turbine.QuantumVacuumTurbineBlockEntity;
 import net.nicotfpn.alientech.ui.sync.AlienContainerMenu;
+import net.nicotfpn.alientech.ui.sync.impl.SyncableInt;
 import net.nicotfpn.alientech.ui.sync.impl.SyncableLong;
 
 public class QuantumVacuumTurbineMenu extends AlienContainerMenu {
 
     public final QuantumVacuumTurbineBlockEntity blockEntity;
 
-    // Client-side cached values from SyncableLong
+    // Client-side cached values from SyncableLong / SyncableInt
     private long energyStored;
     private long maxEnergy;
     private long burnTime;
@@ -37,18 +38,18 @@ public class QuantumVacuumTurbineMenu extends AlienContainerMenu {
         addPlayerInventory(inv);
         addPlayerHotbar(inv);
 
-        // === SyncableLong Trackers ===
+        // === SyncableLong / SyncableInt Trackers ===
         track(SyncableLong.create(
                 () -> (long) blockEntity.getEnergyStorage().getEnergyStored(),
                 val -> this.energyStored = val));
         track(SyncableLong.create(
                 () -> (long) blockEntity.getEnergyStorage().getMaxEnergyStored(),
                 val -> this.maxEnergy = val));
-        track(SyncableLong.create(
-                () -> (long) blockEntity.getBurnTime(),
+        track(SyncableInt.create(
+                () -> blockEntity.getBurnTime(),
                 val -> this.burnTime = val));
-        track(SyncableLong.create(
-                () -> (long) blockEntity.getMaxBurnTime(),
+        track(SyncableInt.create(
+                () -> blockEntity.getMaxBurnTime(),
                 val -> this.maxBurnTime = val));
     }
 
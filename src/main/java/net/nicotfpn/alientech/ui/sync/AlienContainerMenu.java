@@ -7,12 +7,10 @@ import net.minecraft.world.inventory.MenuType;
 import net.neoforged.neoforge.network.PacketDistributor;
 import net.nicotfpn.alientech.network.SyncDataPacket;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public abstract class AlienContainerMenu extends AbstractContainerMenu {
 
-    private final List<SyncableValue<?>> trackables = new ArrayList<>();
+    // Primitive slots + dirty bitset: an unchanged broadcast allocates nothing
+    private final SyncSlotTracker tracker = new SyncSlotTracker();
     protected final Player player;
 
     protected AlienContainerMenu(MenuType<?> menuType, int containerId, Player player) {
@@ -21,7 +19,7 @@ public abstract class AlienContainerMenu extends AbstractContainerMenu {
     }
 
     protected void track(SyncableValue<?> val) {
-        trackables.add(val);
+        tracker.add(val);
     }
 
     @Override
@@ -29,41 +27,14 @@ public abstract class AlienContainerMenu extends AbstractContainerMenu {
         super.broadcastChanges();
 
         if (player instanceof ServerPlayer serverPlayer) {
-            List<SyncDataPacket.SyncPayload> dirtyPayloads = new ArrayList<>();
-            for (int i = 0; i < trackables.size(); i++) {
-                SyncableValue<?> val = trackables.get(i);
-                if (val.isDirty()) {
-                    if (val.get() instanceof Long lVal) {
-                        dirtyPayloads.add(new SyncDataPacket.SyncPayload(i, lVal));
-                    } else if (val.get() instanceof Integer iVal) {
-                        dirtyPayloads.add(new SyncDataPacket.SyncPayload(i, iVal.longValue()));
-                    } else if (val.get() instanceof Boolean bVal) {
-                        dirtyPayloads.add(new SyncDataPacket.SyncPayload(i, bVal ? 1L : 0L));
-                    }
-                    val.markClean(); // Resets diff state locally
-                }
-            }
-
-            if (!dirtyPayloads.isEmpty()) {
-                PacketDistributor.sendToPlayer(serverPlayer, new SyncDataPacket(containerId, dirtyPayloads));
+            SyncDataPacket packet = tracker.collect(containerId);
+            if (packet != null) {
+                PacketDistributor.sendToPlayer(serverPlayer, packet);
             }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    public void handleSync(List<SyncDataPacket.SyncPayload> payloads) {
-        for (SyncDataPacket.SyncPayload payload : payloads) {
-            int index = payload.index();
-            if (index >= 0 && index < trackables.size()) {
-                SyncableValue<?> trackable = trackables.get(index);
-                if (trackable.get() instanceof Long) {
-                    ((SyncableValue<Long>) trackable).set(payload.value());
-                } else if (trackable.get() instanceof Integer) {
-                    ((SyncableValue<Integer>) trackable).set((int) payload.value());
-                } else if (trackable.get() instanceof Boolean) {
-                    ((SyncableValue<Boolean>) trackable).set(payload.value() == 1L);
-                }
-            }
-        }
+    public void handleSync(SyncDataPacket packet) {
+        tracker.apply(packet);
     }
 }
@@ -0,0 +1,140 @@
+package net.nicotfpn.alientech.ui.sync;
+
+import net.nicotfpn.alientech.network.SyncDataPacket;
+import net.nicotfpn.alientech.ui.sync.impl.SyncableInt;
+import net.nicotfpn.alientech.ui.sync.impl.SyncableLong;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Primitive change tracker behind {@link AlienContainerMenu}.
+ * <p>
+ * Each tracked value occupies one slot with a kind tag and a {@code long}
+ * last-sent value. {@link #collect} polls every slot through the unboxed
+ * getters and flags changes in a {@link BitSet}; with nothing dirty it returns
+ * null without allocating. Only an actual change builds a packet, sized to
+ * the dirty slots.
+ * <p>
+ * {@link SyncableValue} implementations other than {@link SyncableLong} and
+ * {@link SyncableInt} still work through the boxed {@code get()} path.
+ */
+final class SyncSlotTracker {
+
+    private static final byte KIND_LONG = 0;
+    private static final byte KIND_INT = 1;
+    private static final byte KIND_BOXED = 2;
+
+    private SyncableValue<?>[] values = new SyncableValue<?>[8];
+    private byte[] kinds = new byte[8];
+    private long[] lastSent = new long[8];
+    private int size = 0;
+
+    private final BitSet dirty = new BitSet();
+    private boolean initialSent = false;
+
+    int add(SyncableValue<?> value) {
+        if (size == values.length) {
+            int grown = size * 2;
+            values = Arrays.copyOf(values, grown);
+            kinds = Arrays.copyOf(kinds, grown);
+            lastSent = Arrays.copyOf(lastSent, grown);
+        }
+        values[size] = value;
+        if (value instanceof SyncableLong) {
+            kinds[size] = KIND_LONG;
+        } else if (value instanceof SyncableInt) {
+            kinds[size] = KIND_INT;
+        } else {
+            kinds[size] = KIND_BOXED;
+        }
+        return size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // ==================== Server ====================
+
+    /**
+     * Poll every slot and build a packet of the changed ones.
+     *
+     * @return the packet to send, or null when nothing changed
+     */
+    SyncDataPacket collect(int containerId) {
+        for (int i = 0; i < size; i++) {
+            long current = read(i);
+            if (!initialSent || current != lastSent[i]) {
+                lastSent[i] = current;
+                dirty.set(i);
+            }
+        }
+        initialSent = true;
+
+        int count = dirty.cardinality();
+        if (count == 0)
+            return null;
+
+        int[] indices = new int[count];
+        long[] payload = new long[count];
+        boolean[] intSlots = new boolean[count];
+        int n = 0;
+        for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+            indices[n] = i;
+            payload[n] = lastSent[i];
+            intSlots[n] = kinds[i] == KIND_INT;
+            n++;
+        }
+        dirty.clear();
+        return new SyncDataPacket(containerId, indices, payload, intSlots);
+    }
+
+    private long read(int slot) {
+        return switch (kinds[slot]) {
+            case KIND_LONG -> ((SyncableLong) values[slot]).getAsLong();
+            case KIND_INT -> ((SyncableInt) values[slot]).getAsInt();
+            default -> readBoxed(values[slot]);
+        };
+    }
+
+    private static long readBoxed(SyncableValue<?> value) {
+        Object boxed = value.get();
+        if (boxed instanceof Long lVal)
+            return lVal;
+        if (boxed instanceof Integer iVal)
+            return iVal;
+        if (boxed instanceof Boolean bVal)
+            return bVal ? 1L : 0L;
+        return 0L;
+    }
+
+    // ==================== Client ====================
+
+    @SuppressWarnings("unchecked")
+    void apply(SyncDataPacket packet) {
+        int[] indices = packet.indices();
+        long[] payload = packet.values();
+        for (int n = 0; n < indices.length; n++) {
+            int index = indices[n];
+            if (index < 0 || index >= size)
+                continue;
+            long value = payload[n];
+            SyncableValue<?> target = values[index];
+            switch (kinds[index]) {
+                case KIND_LONG -> ((SyncableLong) target).setLong(value);
+                case KIND_INT -> ((SyncableInt) target).setInt((int) value);
+                default -> {
+                    Object current = target.get();
+                    if (current instanceof Long) {
+                        ((SyncableValue<Long>) target).set(value);
+                    } else if (current instanceof Integer) {
+                        ((SyncableValue<Integer>) target).set((int) value);
+                    } else if (current instanceof Boolean) {
+                        ((SyncableValue<Boolean>) target).set(value == 1L);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package net.nicotfpn.alientech.ui.sync.impl;
+
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.nicotfpn.alientech.ui.sync.SyncableValue;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Int counterpart of {@link SyncableLong} for values that never exceed 32 bits
+ * (progress, burn time, FE). Synced as a varint.
+ */
+public class SyncableInt implements SyncableValue<Integer> {
+    private final IntSupplier getter;
+    private final IntConsumer setter;
+
+    private int lastSyncedValue;
+    private boolean needsInitialSync = true;
+
+    private boolean isClientSide = false;
+    private int clientValue;
+
+    public static SyncableInt create(IntSupplier getter, IntConsumer setter) {
+        return new SyncableInt(getter, setter);
+    }
+
+    public SyncableInt(IntSupplier getter, IntConsumer setter) {
+        this.getter = getter;
+        this.setter = setter;
+        this.lastSyncedValue = getter.getAsInt();
+    }
+
+    /**
+     * Unboxed read: the live server value, or the last synced value on the
+     * client.
+     */
+    public int getAsInt() {
+        return isClientSide ? clientValue : getter.getAsInt();
+    }
+
+    /**
+     * Unboxed client-side update.
+     */
+    public void setInt(int val) {
+        this.isClientSide = true;
+        this.clientValue = val;
+        if (setter != null) {
+            setter.accept(val);
+        }
+    }
+
+    @Override
+    public Integer get() {
+        return getAsInt();
+    }
+
+    @Override
+    public void set(Integer val) {
+        setInt(val);
+    }
+
+    @Override
+    public boolean isDirty() {
+        if (isClientSide) {
+            return false;
+        }
+        if (needsInitialSync) {
+            return true;
+        }
+        return getter.getAsInt() != lastSyncedValue;
+    }
+
+    @Override
+    public void markClean() {
+        needsInitialSync = false;
+        lastSyncedValue = getter.getAsInt();
+    }
+
+    @Override
+    public void encode(RegistryFriendlyByteBuf buffer) {
+        buffer.writeVarInt(getter.getAsInt());
+    }
+
+    @Override
+    public void decode(RegistryFriendlyByteBuf buffer) {
+        setInt(buffer.readVarInt());
+    }
+}
@@ -35,13 +35,18 @@ public class SyncableLong implements SyncableValue<Long> {
         this.lastSyncedValue = getter.getAsLong();
     }
 
-    @Override
-    public Long get() {
+    /**
+     * Unboxed read: the live server value, or the last synced value on the
+     * client.
+     */
+    public long getAsLong() {
         return isClientSide ? clientValue : getter.getAsLong();
     }
 
-    @Override
-    public void set(Long val) {
+    /**
+     * Unboxed client-side update.
+     */
+    public void setLong(long val) {
         this.isClientSide = true;
         this.clientValue = val;
         if (setter != null) {
@@ -49,6 +54,16 @@ public class SyncableLong implements SyncableValue<Long> {
         }
     }
 
+    @Override
+    public Long get() {
+        return getAsLong();
+    }
+
+    @Override
+    public void set(Long val) {
+        setLong(val);
+    }
+
     @Override
     public boolean isDirty() {
         if (isClientSide) {
@@ -75,6 +90,6 @@ public class SyncableLong implements SyncableValue<Long> {
 
     @Override
     public void decode(RegistryFriendlyByteBuf buffer) {
-        set(buffer.readVarLong());
+        setLong(buffer.readVarLong());
     }
 }
@@ -1,6 +1,7 @@
 package net.nicotfpn.alientech.util;
 
 import net.nicotfpn.alientech.AlienTech;
+import net.nicotfpn.alientech.metrics.MetricChannel;
 import org.slf4j.Logger;
 
 /**
@@ -9,6 +10,11 @@ import org.slf4j.Logger;
  * Provides conditional logging that can be enabled/disabled.
  * All logging is lightweight and disabled by default.
  * <p>
+ * Each logger follows its {@link MetricChannel}, so logging is switched on at
+ * runtime with {@code /alientech metrics enable <channel>}. Always guard calls
+ * with {@link DebugLogger#isEnabled()} — the varargs overload boxes its
+ * arguments before the check inside {@code log} can run.
+ * <p>
  * Usage:
  * <pre>
  * if (AlienTechDebug.ENTROPY.isEnabled()) {
@@ -20,13 +26,6 @@ public final class AlienTechDebug {
 
     private static final Logger LOGGER = AlienTech.LOGGER;
 
-    // Debug flags - set to true to enable specific debug logging
-    // These should be configurable via config file in production
-    private static final boolean ENABLE_ENTROPY_DEBUG = false;
-    private static final boolean ENABLE_EVOLUTION_DEBUG = false;
-    private static final boolean ENABLE_MACHINE_DEBUG = false;
-    private static final boolean ENABLE_ABILITY_DEBUG = false;
-
     private AlienTechDebug() {
         // Static utility class
     }
@@ -34,32 +33,32 @@ public final class AlienTechDebug {
     /**
      * Entropy system debug logger.
      */
-    public static final DebugLogger ENTROPY = new DebugLogger(ENABLE_ENTROPY_DEBUG, "ENTROPY");
+    public static final DebugLogger ENTROPY = new DebugLogger(MetricChannel.ENTROPY, "ENTROPY");
 
     /**
      * Evolution system debug logger.
      */
-    public static final DebugLogger EVOLUTION = new DebugLogger(ENABLE_EVOLUTION_DEBUG, "EVOLUTION");
+    public static final DebugLogger EVOLUTION = new DebugLogger(MetricChannel.EVOLUTION, "EVOLUTION");
 
     /**
      * Machine system debug logger.
      */
-    public static final DebugLogger MACHINE = new DebugLogger(ENABLE_MACHINE_DEBUG, "MACHINE");
+    public static final DebugLogger MACHINE = new DebugLogger(MetricChannel.MACHINE, "MACHINE");
 
     /**
      * Ability system debug logger.
      */
-    public static final DebugLogger ABILITY = new DebugLogger(ENABLE_ABILITY_DEBUG, "ABILITY");
+    public static final DebugLogger ABILITY = new DebugLogger(MetricChannel.ABILITY, "ABILITY");
 
     /**
      * Lightweight debug logger that only logs when enabled.
      */
     public static final class DebugLogger {
-        private final boolean enabled;
+        private final MetricChannel channel;
         private final String prefix;
 
-        private DebugLogger(boolean enabled, String prefix) {
-            this.enabled = enabled;
+        private DebugLogger(MetricChannel channel, String prefix) {
+            this.channel = channel;
             this.prefix = "[" + prefix + "] ";
         }
 
@@ -69,7 +68,7 @@ public final class AlienTechDebug {
          * @return true if logging is enabled
          */
         public boolean isEnabled() {
-            return enabled;
+            return channel.isEnabled();
         }
 
         /**
@@ -80,7 +79,7 @@ public final class AlienTechDebug {
          * @param args the format arguments
          */
         public void log(String message, Object... args) {
-            if (enabled) {
+            if (channel.isEnabled()) {
                 LOGGER.debug(prefix + message, args);
             }
         }
@@ -92,7 +91,7 @@ public final class AlienTechDebug {
          * @param message the message
          */
         public void log(String message) {
-            if (enabled) {
+            if (channel.isEnabled()) {
                 LOGGER.debug(prefix + message);
             }
         }
@@ -9,6 +9,7 @@ import net.nicotfpn.alientech.entropy.IEntropyHandler;
 import net.nicotfpn.alientech.entropy.ModCapabilities;
 import net.nicotfpn.alientech.evolution.PlayerEvolutionData;
 import net.nicotfpn.alientech.evolution.PlayerEvolutionHelper;
+import net.nicotfpn.alientech.metrics.AlienMetrics;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -36,6 +37,7 @@ public final class CapabilityUtils {
         if (level == null || !level.isLoaded(pos)) {
             return null;
         }
+        AlienMetrics.CAPABILITY_DIRECT_LOOKUPS.increment();
         try {
             return level.getCapability(ModCapabilities.ENTROPY, pos, side);
         } catch (Exception e) {
@@ -5,6 +5,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.energy.IEnergyStorage;
+import net.nicotfpn.alientech.metrics.AlienMetrics;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Locale;
@@ -65,7 +66,9 @@ public final class EnergyUtils {
 
         // Perform actual transfer
         int extracted = source.extractEnergy(simulatedReceive, false);
-        return target.receiveEnergy(extracted, false);
+        int moved = target.receiveEnergy(extracted, false);
+        AlienMetrics.FE_MOVED.add(moved);
+        return moved;
     }
 
     /**
@@ -90,7 +93,9 @@ public final class EnergyUtils {
 
         // Perform actual transfer
         int extracted = target.extractEnergy(simulatedReceive, false);
-        return receiver.receiveEnergy(extracted, false);
+        int moved = receiver.receiveEnergy(extracted, false);
+        AlienMetrics.FE_MOVED.add(moved);
+        return moved;
     }
 
     /**
@@ -104,6 +109,7 @@ public final class EnergyUtils {
      */
     public static int pushToPosition(Level level, BlockPos targetPos, @Nullable Direction side, IEnergyStorage source,
             int maxTransfer) {
+        AlienMetrics.CAPABILITY_DIRECT_LOOKUPS.increment();
         IEnergyStorage targetCap = level.getCapability(Capabilities.EnergyStorage.BLOCK, targetPos, side);
         if (targetCap == null)
             return 0;
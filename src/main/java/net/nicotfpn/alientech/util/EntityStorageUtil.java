@@ -13,18 +13,21 @@ import net.minecraft.world.entity.Mob;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.level.Level;
+import net.nicotfpn.alientech.item.data.ModDataComponents;
+import net.nicotfpn.alientech.item.data.StoredMob;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Optional;
-
 /**
- * Generic utility for storing and releasing mob data in ItemStack NBT.
+ * Generic utility for storing and releasing mob data on ItemStacks.
  * <p>
- * Stores a full NBT snapshot of the entity — never holds a raw entity
- * reference.
- * Uses NeoForge 1.21.1 DataComponents.CUSTOM_DATA for ItemStack tag storage.
+ * Stores a {@link StoredMob} snapshot — never holds a raw entity reference.
+ * Uses the typed {@link ModDataComponents#STORED_MOB} component: queries
+ * (type, name, health, presence) read plain fields and never copy the entity
+ * NBT, which is only decoded on release or for display.
  * <p>
- * NBT structure stored in CustomData:
+ * Legacy stacks keep the old CustomData layout. They are still readable
+ * (decoded on the fly) and are moved into the component by
+ * {@link #migrateLegacy(ItemStack)} on the server:
  * 
  * <pre>
  * StoredEntityType: "minecraft:zombie"   (ResourceLocation string)
@@ -45,7 +48,7 @@ public final class EntityStorageUtil {
     // ==================== Core Operations ====================
 
     /**
-     * Store a living entity's data into an ItemStack's custom data component.
+     * Store a living entity's data into an ItemStack's stored-mob component.
      * The entity is NOT removed from the world — the caller must handle that.
      *
      * @param stack  the item to store the mob in
@@ -60,18 +63,7 @@ public final class EntityStorageUtil {
         if (typeId == null)
             return false;
 
-        // Take full NBT snapshot
-        CompoundTag entityNbt = new CompoundTag();
-        entity.save(entityNbt);
-
-        // Build custom data tag
-        CompoundTag tag = getOrCreateCustomData(stack);
-        tag.putString(KEY_ENTITY_TYPE, typeId.toString());
-        tag.putFloat(KEY_HEALTH, entity.getHealth());
-        tag.put(KEY_NBT, entityNbt);
-
-        // Write back to item
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        stack.set(ModDataComponents.STORED_MOB.get(), StoredMob.capture(entity));
         return true;
     }
 
@@ -90,49 +82,29 @@ public final class EntityStorageUtil {
             return null;
         }
 
-        if (stack == null || !hasStoredMob(stack)) {
-            return null;
-        }
-
-        if (pos == null) {
-            return null;
-        }
-
-        CompoundTag tag = getCustomData(stack);
-        if (tag == null || !tag.contains(KEY_ENTITY_TYPE) || !tag.contains(KEY_NBT)) {
-            return null;
-        }
-
-        String typeIdStr = tag.getString(KEY_ENTITY_TYPE);
-        if (typeIdStr == null || typeIdStr.isEmpty()) {
-            return null;
-        }
-
-        ResourceLocation typeId = ResourceLocation.tryParse(typeIdStr);
-        if (typeId == null) {
+        if (stack == null || pos == null) {
             return null;
         }
 
-        Optional<EntityType<?>> entityTypeOpt = BuiltInRegistries.ENTITY_TYPE.getOptional(typeId);
-        if (entityTypeOpt.isEmpty()) {
+        StoredMob stored = getStoredMob(stack);
+        if (stored == null) {
             return null;
         }
 
-        EntityType<?> entityType = entityTypeOpt.get();
-        CompoundTag entityNbt = tag.getCompound(KEY_NBT);
-        if (entityNbt == null || entityNbt.isEmpty()) {
+        CompoundTag entityNbt = stored.copyEntityData();
+        if (entityNbt.isEmpty()) {
             return null;
         }
 
         // Create entity from stored NBT
         Entity entity;
         try {
-            entity = entityType.create(serverLevel);
+            entity = stored.type().create(serverLevel);
             if (entity == null) {
                 return null;
             }
         } catch (Exception e) {
-            net.nicotfpn.alientech.AlienTech.LOGGER.error("Failed to create entity from type {}", typeId, e);
+            net.nicotfpn.alientech.AlienTech.LOGGER.error("Failed to create entity from type {}", stored, e);
             return null;
         }
 
@@ -150,7 +122,7 @@ public final class EntityStorageUtil {
 
         // Restore health if it's a living entity
         if (entity instanceof LivingEntity living) {
-            float storedHealth = tag.getFloat(KEY_HEALTH);
+            float storedHealth = stored.health();
             if (storedHealth > 0 && storedHealth <= living.getMaxHealth()) {
                 living.setHealth(storedHealth);
             }
@@ -181,12 +153,26 @@ public final class EntityStorageUtil {
 
     // ==================== Query Methods ====================
 
+    /**
+     * Stored mob snapshot, or null if the item holds none. Read-only: safe on
+     * the client (tooltips, glint). No NBT copies unless the stack still uses
+     * the legacy layout.
+     */
+    @Nullable
+    public static StoredMob getStoredMob(ItemStack stack) {
+        if (stack.isEmpty())
+            return null;
+        StoredMob stored = stack.get(ModDataComponents.STORED_MOB.get());
+        if (stored != null || !hasLegacyData(stack))
+            return stored;
+        return readLegacy(stack);
+    }
+
     /**
      * @return true if the item currently stores a mob
      */
     public static boolean hasStoredMob(ItemStack stack) {
-        CompoundTag tag = getCustomData(stack);
-        return tag != null && tag.contains(KEY_ENTITY_TYPE) && tag.contains(KEY_NBT);
+        return getStoredMob(stack) != null;
     }
 
     /**
@@ -194,91 +180,61 @@ public final class EntityStorageUtil {
      */
     @Nullable
     public static EntityType<?> getStoredEntityType(ItemStack stack) {
-        CompoundTag tag = getCustomData(stack);
-        if (tag == null || !tag.contains(KEY_ENTITY_TYPE))
-            return null;
-
-        String typeIdStr = tag.getString(KEY_ENTITY_TYPE);
-        ResourceLocation typeId = ResourceLocation.tryParse(typeIdStr);
-        if (typeId == null)
-            return null;
-
-        return BuiltInRegistries.ENTITY_TYPE.getOptional(typeId).orElse(null);
+        StoredMob stored = getStoredMob(stack);
+        return stored != null ? stored.type() : null;
     }
 
     /**
      * Get the stored entity's health, or 0 if none stored.
      */
     public static float getStoredHealth(ItemStack stack) {
-        CompoundTag tag = getCustomData(stack);
-        if (tag == null)
-            return 0f;
-        return tag.getFloat(KEY_HEALTH);
+        StoredMob stored = getStoredMob(stack);
+        return stored != null ? stored.health() : 0f;
     }
 
     /**
-     * Get the stored entity's full NBT snapshot.
+     * Get a copy of the stored entity's full NBT snapshot.
      */
     @Nullable
     public static CompoundTag getStoredNBT(ItemStack stack) {
-        CompoundTag tag = getCustomData(stack);
-        if (tag == null || !tag.contains(KEY_NBT))
-            return null;
-        return tag.getCompound(KEY_NBT);
+        StoredMob stored = getStoredMob(stack);
+        return stored != null ? stored.copyEntityData() : null;
     }
 
     /**
-     * Get a display name for the stored entity type (for tooltips).
+     * Get a display name for the stored entity (for tooltips).
      */
     @Nullable
     public static String getStoredEntityName(ItemStack stack) {
-        EntityType<?> type = getStoredEntityType(stack);
-        if (type == null)
-            return null;
-        return type.getDescription().getString();
+        StoredMob stored = getStoredMob(stack);
+        return stored != null ? stored.displayName().getString() : null;
     }
 
     // ==================== Entity Reconstruction ====================
 
     /**
-     * Reconstruct a LivingEntity from raw mob NBT data (for display purposes only).
+     * Reconstruct a LivingEntity from a stored mob (for display purposes only).
      * Used by the Decay Chamber to show a mob silhouette in the GUI.
      *
-     * @param level   the level to use for entity creation (can be client-side)
-     * @param mobData raw CompoundTag containing StoredEntityType and StoredNBT keys
+     * @param level  the level to use for entity creation (can be client-side)
+     * @param stored the mob snapshot
      * @return reconstructed LivingEntity, or null if reconstruction fails
      */
     @Nullable
-    public static LivingEntity reconstructEntity(@Nullable Level level, @Nullable CompoundTag mobData) {
-        if (level == null || mobData == null)
+    public static LivingEntity reconstructEntity(@Nullable Level level, @Nullable StoredMob stored) {
+        if (level == null || stored == null)
             return null;
 
         try {
-            String typeIdStr = mobData.contains(KEY_ENTITY_TYPE)
-                    ? mobData.getString(KEY_ENTITY_TYPE)
-                    : null;
-            if (typeIdStr == null || typeIdStr.isEmpty())
-                return null;
-
-            ResourceLocation typeId = ResourceLocation.tryParse(typeIdStr);
-            if (typeId == null)
-                return null;
-
-            Optional<EntityType<?>> entityTypeOpt = BuiltInRegistries.ENTITY_TYPE.getOptional(typeId);
-            if (entityTypeOpt.isEmpty())
-                return null;
-
-            Entity entity = entityTypeOpt.get().create(level);
+            Entity entity = stored.type().create(level);
             if (entity == null)
                 return null;
 
             // Load NBT safely — this is for display only, failures are non-critical
-            if (mobData.contains(KEY_NBT)) {
-                try {
-                    entity.load(mobData.getCompound(KEY_NBT));
-                } catch (Exception ignored) {
-                    // NBT load failure for display entity is non-critical
-                }
+            try {
+                entity.load(stored.copyEntityData());
+            } catch (Exception ignored) {
+                // NBT load failure for display entity is non-critical
             }
 
             if (entity instanceof LivingEntity living) {
@@ -300,39 +256,66 @@ public final class EntityStorageUtil {
      * Clear all stored mob data from the item.
      */
     public static void clearStoredMob(ItemStack stack) {
-        CompoundTag tag = getCustomData(stack);
-        if (tag != null) {
-            tag.remove(KEY_ENTITY_TYPE);
-            tag.remove(KEY_HEALTH);
-            tag.remove(KEY_NBT);
-            // If tag is now empty, remove the component entirely
-            if (tag.isEmpty()) {
-                stack.remove(DataComponents.CUSTOM_DATA);
-            } else {
-                stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
-            }
-        }
+        stack.remove(ModDataComponents.STORED_MOB.get());
+        if (hasLegacyData(stack))
+            removeLegacyKeys(stack);
     }
 
-    // ==================== Internal Helpers ====================
+    // ==================== Legacy Migration ====================
 
     /**
-     * Get the custom data tag from the ItemStack (read-only copy), or null if
-     * absent.
+     * Legacy snapshot stored under the old CustomData keys (no copy).
      */
     @Nullable
-    private static CompoundTag getCustomData(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null)
+    public static StoredMob fromLegacy(@Nullable String typeIdStr, float health, @Nullable CompoundTag entityNbt) {
+        if (typeIdStr == null || entityNbt == null)
             return null;
-        return customData.copyTag();
+        ResourceLocation typeId = ResourceLocation.tryParse(typeIdStr);
+        if (typeId == null)
+            return null;
+        EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(typeId).orElse(null);
+        if (type == null)
+            return null;
+        return new StoredMob(type, type.getDescription(), health, entityNbt);
+    }
+
+    private static boolean hasLegacyData(ItemStack stack) {
+        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
+        return customData != null && customData.contains(KEY_ENTITY_TYPE);
+    }
+
+    @Nullable
+    private static StoredMob readLegacy(ItemStack stack) {
+        CompoundTag tag = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY).copyTag();
+        return tag.contains(KEY_NBT)
+                ? fromLegacy(tag.getString(KEY_ENTITY_TYPE), tag.getFloat(KEY_HEALTH), tag.getCompound(KEY_NBT))
+                : null;
     }
 
     /**
-     * Get or create a mutable custom data tag for writing.
+     * Moves a mob from the legacy CustomData keys into the typed component.
+     * No-op once migrated; call server-side only.
      */
-    private static CompoundTag getOrCreateCustomData(ItemStack stack) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        return customData.copyTag();
+    public static void migrateLegacy(ItemStack stack) {
+        if (stack.has(ModDataComponents.STORED_MOB.get()) || !hasLegacyData(stack))
+            return;
+        StoredMob stored = readLegacy(stack);
+        if (stored == null)
+            return; // Unknown type: leave the legacy data untouched
+        removeLegacyKeys(stack);
+        stack.set(ModDataComponents.STORED_MOB.get(), stored);
+    }
+
+    private static void removeLegacyKeys(ItemStack stack) {
+        CompoundTag tag = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY).copyTag();
+        tag.remove(KEY_ENTITY_TYPE);
+        tag.remove(KEY_HEALTH);
+        tag.remove(KEY_NBT);
+        // If tag is now empty, remove the component entirely
+        if (tag.isEmpty()) {
+            stack.remove(DataComponents.CUSTOM_DATA);
+        } else {
+            stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        }
     }
 }